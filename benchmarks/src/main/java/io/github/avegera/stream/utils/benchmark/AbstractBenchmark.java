@@ -0,0 +1,31 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The common JMH settings of the benchmarks.
+ * <p>
+ * Each benchmark class pairs a method-alias with the hand-written loop that produces the same result,
+ * the loop counterpart has the {@code Loop} suffix. Method-aliases with the same loop equivalent
+ * (e.g. {@code findFirst} and {@code findAny}) share a single loop benchmark. The approximate method-aliases
+ * are paired with the loop that computes the exact result.
+ * <p>
+ * Other variants of a method-alias are named by the variant: the {@code Stream} suffix for the stream pipeline
+ * with the same result, e.g. {@code countIfStream}, and a descriptive suffix for other arguments or alternatives,
+ * e.g. {@code mapBoxed} or {@code sortByComparing}. {@link ParallelBenchmark} is compared with the sequential
+ * method-aliases of the same name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class AbstractBenchmark {
+}
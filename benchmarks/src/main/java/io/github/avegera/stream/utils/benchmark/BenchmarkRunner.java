@@ -0,0 +1,30 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of the benchmarks jar.
+ * <p>
+ * Accepts the standard JMH command line options and always attaches the {@link GCProfiler},
+ * so the allocation rate ({@code gc.alloc.rate.norm}) is reported next to the score of each benchmark.
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        //empty private constructor
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The shared input of the benchmarks: a collection of the given type and size.
+ * <p>
+ * Use {@code -p type=...} and {@code -p size=...} to narrow down the matrix for a single run.
+ */
+@State(Scope.Benchmark)
+public class CollectionState {
+
+    public static final Comparator<Item> REVERSED_ID = Comparator.comparingInt(Item::getId).reversed();
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "TREE_SET"})
+    public CollectionType type;
+
+    @Param({"0", "10", "1000", "100000", "10000000"})
+    public int size;
+
+    public Collection<Item> collection;
+
+    /**
+     * The item with the greatest id, used as a target of search operations.
+     */
+    public Item last;
+
+    /**
+     * The items with even ids in the collection of the same type, used as the other side of set operations.
+     */
+    public Collection<Item> evenItems;
+
+    /**
+     * The items of the collection sorted by id in an array list, used as the input of the search in sorted lists.
+     */
+    public List<Item> sorted;
+
+    /**
+     * The items of the collection and the items with even ids in hash sets, used as the input of the set views.
+     */
+    public Set<Item> itemSet;
+
+    public Set<Item> evenItemSet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        collection = type.fill(size);
+        last = new Item(size - 1);
+        sorted = new ArrayList<>(collection);
+        sorted.sort(Comparator.comparingInt(Item::getId));
+        evenItems = type.create(size / 2);
+        for (Item item : collection) {
+            if (item.isEven()) {
+                evenItems.add(item);
+            }
+        }
+        itemSet = new HashSet<>(collection);
+        evenItemSet = new HashSet<>(evenItems);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.TreeSet;
+
+/**
+ * The collection implementations used as the input of the benchmarks.
+ */
+public enum CollectionType {
+
+    ARRAY_LIST {
+        @Override
+        Collection<Item> create(int size) {
+            return new ArrayList<>(size);
+        }
+    },
+    LINKED_LIST {
+        @Override
+        Collection<Item> create(int size) {
+            return new LinkedList<>();
+        }
+    },
+    HASH_SET {
+        @Override
+        Collection<Item> create(int size) {
+            return new HashSet<>(Math.max((int) (size / .75f) + 1, 16));
+        }
+    },
+    TREE_SET {
+        @Override
+        Collection<Item> create(int size) {
+            return new TreeSet<>();
+        }
+    };
+
+    abstract Collection<Item> create(int size);
+
+    public Collection<Item> fill(int size) {
+        Collection<Item> collection = create(size);
+        for (int i = 0; i < size; i++) {
+            collection.add(new Item(i));
+        }
+        return collection;
+    }
+}
@@ -0,0 +1,244 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.Counters;
+import io.github.avegera.stream.utils.HeavyHitters;
+import io.github.avegera.stream.utils.NumericStats;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CountersBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public long count(CollectionState state) {
+        return Counters.count(state.collection);
+    }
+
+    @Benchmark
+    public long countLoop(CollectionState state) {
+        return state.collection == null ? 0 : state.collection.size();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countBy(CollectionState state) {
+        return Counters.countBy(state.collection, item -> item.getId() % 16);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByStream(CollectionState state) {
+        return state.collection.stream()
+                .collect(Collectors.groupingBy(item -> item.getId() % 16, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByLoop(CollectionState state) {
+        Map<Integer, Long> result = new HashMap<>();
+        for (Item item : state.collection) {
+            result.merge(item.getId() % 16, 1L, Long::sum);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long countIf(CollectionState state) {
+        return Counters.countIf(state.collection, item -> item.getId() % 2 == 0);
+    }
+
+    @Benchmark
+    public long countIfStream(CollectionState state) {
+        return state.collection.stream()
+                .filter(item -> item.getId() % 2 == 0)
+                .count();
+    }
+
+    @Benchmark
+    public long countIfLoop(CollectionState state) {
+        long result = 0;
+        for (Item item : state.collection) {
+            if (item.getId() % 2 == 0) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long countDistinctApprox(CollectionState state) {
+        return Counters.countDistinctApprox(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public long countDistinctApproxLoop(CollectionState state) {
+        Set<Integer> keys = new HashSet<>();
+        for (Item item : state.collection) {
+            keys.add(item.getId());
+        }
+        return keys.size();
+    }
+
+    @Benchmark
+    public List<HeavyHitters.Entry<Integer>> topKFrequent(CollectionState state) {
+        return Counters.topKFrequent(state.collection, item -> Integer.numberOfTrailingZeros(item.getId()), 10);
+    }
+
+    @Benchmark
+    public List<Map.Entry<Integer, Long>> topKFrequentLoop(CollectionState state) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (Item item : state.collection) {
+            counts.merge(Integer.numberOfTrailingZeros(item.getId()), 1L, Long::sum);
+        }
+        List<Map.Entry<Integer, Long>> result = new ArrayList<>(counts.entrySet());
+        result.sort(Map.Entry.<Integer, Long>comparingByValue().reversed());
+        return result.subList(0, Math.min(10, result.size()));
+    }
+
+    @Benchmark
+    public double[] quantiles(CollectionState state) {
+        return Counters.quantiles(state.collection, Item::getId, 0.5, 0.9, 0.99);
+    }
+
+    @Benchmark
+    public double[] quantilesExact(CollectionState state) {
+        return Counters.quantilesExact(state.collection, Item::getId, 0.5, 0.9, 0.99);
+    }
+
+    @Benchmark
+    public double[] quantilesExactLoop(CollectionState state) {
+        double[] values = new double[state.collection.size()];
+        int i = 0;
+        for (Item item : state.collection) {
+            values[i++] = item.getId();
+        }
+        double[] result = new double[]{0.5, 0.9, 0.99};
+        if (values.length == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        Arrays.sort(values);
+        for (int j = 0; j < result.length; j++) {
+            result[j] = values[Math.max(0, (int) Math.ceil(result[j] * values.length) - 1)];
+        }
+        return result;
+    }
+
+    @Benchmark
+    public NumericStats stats(CollectionState state) {
+        return Counters.stats(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics statsStream(CollectionState state) {
+        return state.collection.stream().mapToDouble(Item::getId).summaryStatistics();
+    }
+
+    @Benchmark
+    public double[] statsLoop(CollectionState state) {
+        long count = 0;
+        double mean = 0;
+        double squares = 0;
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (Item item : state.collection) {
+            double value = item.getId();
+            if (count == 0 || value < min) {
+                min = value;
+            }
+            if (count == 0 || value > max) {
+                max = value;
+            }
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            squares += delta * (value - mean);
+        }
+        return new double[]{count, min, max, mean, count == 0 ? Double.NaN : squares / count};
+    }
+
+    @Benchmark
+    public long sumInt(CollectionState state) {
+        return Counters.sumInt(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public long sumIntStream(CollectionState state) {
+        return state.collection.stream().mapToLong(Item::getId).sum();
+    }
+
+    @Benchmark
+    public long sumIntLoop(CollectionState state) {
+        long result = 0;
+        for (Item item : state.collection) {
+            result += item.getId();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long sumLong(CollectionState state) {
+        return Counters.sumLong(state.collection, item -> (long) item.getId() << 32);
+    }
+
+    @Benchmark
+    public long sumLongLoop(CollectionState state) {
+        long result = 0;
+        for (Item item : state.collection) {
+            result += (long) item.getId() << 32;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double sumDouble(CollectionState state) {
+        return Counters.sumDouble(state.collection, item -> item.getId() * 0.1);
+    }
+
+    @Benchmark
+    public double sumDoubleLoop(CollectionState state) {
+        double result = 0;
+        for (Item item : state.collection) {
+            result += item.getId() * 0.1;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Optional<Item> minBy(CollectionState state) {
+        return Counters.minBy(state.collection, CollectionState.REVERSED_ID);
+    }
+
+    @Benchmark
+    public Item minByLoop(CollectionState state) {
+        Item result = null;
+        for (Item item : state.collection) {
+            if (result == null || CollectionState.REVERSED_ID.compare(item, result) < 0) {
+                result = item;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Optional<Item> maxBy(CollectionState state) {
+        return Counters.maxBy(state.collection, CollectionState.REVERSED_ID);
+    }
+
+    @Benchmark
+    public Item maxByLoop(CollectionState state) {
+        Item result = null;
+        for (Item item : state.collection) {
+            if (result == null || CollectionState.REVERSED_ID.compare(item, result) > 0) {
+                result = item;
+            }
+        }
+        return result;
+    }
+}
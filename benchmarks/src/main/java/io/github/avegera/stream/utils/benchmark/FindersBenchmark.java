@@ -0,0 +1,189 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.Finders;
+import io.github.avegera.stream.utils.IntLookup;
+import io.github.avegera.stream.utils.Lookup;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class FindersBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public Optional<Item> findAny(CollectionState state) {
+        return Finders.findAny(state.collection);
+    }
+
+    @Benchmark
+    public Item findAnyOrDefault(CollectionState state) {
+        return Finders.findAnyOrDefault(state.collection, state.last);
+    }
+
+    @Benchmark
+    public Item findAnyOrNull(CollectionState state) {
+        return Finders.findAnyOrNull(state.collection);
+    }
+
+    @Benchmark
+    public Optional<Item> findFirst(CollectionState state) {
+        return Finders.findFirst(state.collection);
+    }
+
+    @Benchmark
+    public Item findFirstOrDefault(CollectionState state) {
+        return Finders.findFirstOrDefault(state.collection, state.last);
+    }
+
+    @Benchmark
+    public Item findFirstOrNull(CollectionState state) {
+        return Finders.findFirstOrNull(state.collection);
+    }
+
+    @Benchmark
+    public Optional<Item> findFirstByPredicate(CollectionState state) {
+        return Finders.findFirst(state.collection, item -> item.getId() == state.last.getId());
+    }
+
+    @Benchmark
+    public Optional<Item> findFirstByPredicateStream(CollectionState state) {
+        return state.collection.stream()
+                .filter(item -> item.getId() == state.last.getId())
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<Item> findFirstByPredicateLoop(CollectionState state) {
+        for (Item item : state.collection) {
+            if (item.getId() == state.last.getId()) {
+                return Optional.of(item);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Item findFirstOrNullLoop(CollectionState state) {
+        Iterator<Item> iterator = state.collection.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Benchmark
+    public Optional<Item> findInSortedByInt(CollectionState state) {
+        return Finders.findInSortedByInt(state.sorted, state.last.getId(), Item::getId);
+    }
+
+    @Benchmark
+    public Optional<Item> findInSortedByIntLoop(CollectionState state) {
+        for (Item item : state.sorted) {
+            if (item.getId() == state.last.getId()) {
+                return Optional.of(item);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<Item> findInSorted(CollectionState state) {
+        return Finders.findInSorted(state.sorted, state.last.getId(), Item::getId);
+    }
+
+    @Benchmark
+    public Optional<Item> findInSortedLoop(CollectionState state) {
+        Integer key = state.last.getId();
+        for (Item item : state.sorted) {
+            if (key.equals(item.getId())) {
+                return Optional.of(item);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public List<Item> rangeInSorted(CollectionState state) {
+        return Finders.rangeInSorted(state.sorted, state.size / 4, state.size / 2, Item::getId);
+    }
+
+    @Benchmark
+    public List<Item> rangeInSortedLoop(CollectionState state) {
+        Integer from = state.size / 4;
+        Integer to = state.size / 2;
+        List<Item> result = new ArrayList<>();
+        for (Item item : state.sorted) {
+            Integer id = item.getId();
+            if (id.compareTo(from) >= 0 && id.compareTo(to) < 0) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> rangeInSortedByInt(CollectionState state) {
+        return Finders.rangeInSortedByInt(state.sorted, state.size / 4, state.size / 2, Item::getId);
+    }
+
+    @Benchmark
+    public List<Item> rangeInSortedByIntLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>();
+        for (Item item : state.sorted) {
+            if (item.getId() >= state.size / 4 && item.getId() < state.size / 2) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntLookup<Item> indexByInt(CollectionState state) {
+        return Finders.indexByInt(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public Lookup<Integer, Item> index(CollectionState state) {
+        return Finders.index(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> indexLoop(CollectionState state) {
+        Map<Integer, Item> result = new HashMap<>();
+        for (Item item : state.collection) {
+            result.putIfAbsent(item.getId(), item);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Optional<Item> findLast(CollectionState state) {
+        return Finders.findLast(state.collection);
+    }
+
+    @Benchmark
+    public Item findLastOrDefault(CollectionState state) {
+        return Finders.findLastOrDefault(state.collection, state.last);
+    }
+
+    @Benchmark
+    public Item findLastOrNull(CollectionState state) {
+        return Finders.findLastOrNull(state.collection);
+    }
+
+    @Benchmark
+    public Optional<Item> findLastStream(CollectionState state) {
+        return state.collection.stream()
+                .reduce((first, second) -> second);
+    }
+
+    @Benchmark
+    public Item findLastLoop(CollectionState state) {
+        Item result = null;
+        for (Item item : state.collection) {
+            result = item;
+        }
+        return result;
+    }
+}
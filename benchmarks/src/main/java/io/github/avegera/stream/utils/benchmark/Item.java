@@ -0,0 +1,78 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The element type of the benchmark collections.
+ * <p>
+ * Getters return pre-computed values, so the measured allocations belong to the benchmarked operation only.
+ */
+public class Item implements Comparable<Item> {
+
+    private static final int POOL_SIZE = 1024;
+
+    private static final String[] NAMES = new String[POOL_SIZE];
+
+    private static final List<?>[] TAGS = new List<?>[POOL_SIZE];
+
+    static {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            NAMES[i] = "item" + i;
+            TAGS[i] = Arrays.asList("tag" + i, "tag" + (i + 1));
+        }
+    }
+
+    private final int id;
+
+    private String label;
+
+    public Item(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean isEven() {
+        return (id & 1) == 0;
+    }
+
+    public String getName() {
+        return NAMES[id & (POOL_SIZE - 1)];
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> getTags() {
+        return (List<String>) TAGS[id & (POOL_SIZE - 1)];
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    @Override
+    public int compareTo(Item other) {
+        return Integer.compare(id, other.id);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Item && id == ((Item) other).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.Iterators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class IteratorsBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public void forEach(CollectionState state, Blackhole blackhole) {
+        Iterators.forEach(state.collection, blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEachLoop(CollectionState state, Blackhole blackhole) {
+        for (Item item : state.collection) {
+            blackhole.consume(item);
+        }
+    }
+
+    @Benchmark
+    public void setForEach(CollectionState state) {
+        Iterators.setForEach(state.collection, Item::setLabel, Item::getName);
+    }
+
+    @Benchmark
+    public void setForEachLoop(CollectionState state) {
+        for (Item item : state.collection) {
+            item.setLabel(item.getName());
+        }
+    }
+
+    @Benchmark
+    public void setValueForEach(CollectionState state) {
+        Iterators.setValueForEach(state.collection, Item::setLabel, "label");
+    }
+
+    @Benchmark
+    public void setValueForEachLoop(CollectionState state) {
+        for (Item item : state.collection) {
+            item.setLabel("label");
+        }
+    }
+}
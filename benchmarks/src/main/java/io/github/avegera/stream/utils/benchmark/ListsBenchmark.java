@@ -0,0 +1,208 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.Lists;
+import io.github.avegera.stream.utils.Streams;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public class ListsBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public List<Item> collect(CollectionState state) {
+        return Lists.collect(state.collection);
+    }
+
+    @Benchmark
+    public List<Item> collectLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>();
+        for (Item item : state.collection) {
+            result.add(item);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> distinct(CollectionState state) {
+        return Lists.distinct(state.collection);
+    }
+
+    @Benchmark
+    public List<Item> distinctLoop(CollectionState state) {
+        return new ArrayList<>(new LinkedHashSet<>(state.collection));
+    }
+
+    @Benchmark
+    public List<Item> filter(CollectionState state) {
+        return Lists.filter(state.collection, Item::isEven);
+    }
+
+    @Benchmark
+    public List<Item> filterLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>();
+        for (Item item : state.collection) {
+            if (item.isEven()) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> filterSelective(CollectionState state) {
+        return Lists.filter(state.collection, item -> item.getId() % 100 == 0);
+    }
+
+    @Benchmark
+    public List<Item> filterSelectiveLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>();
+        for (Item item : state.collection) {
+            if (item.getId() % 100 == 0) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> flatMap(CollectionState state) {
+        return Lists.flatMap(state.collection, item -> Streams.safeStream(item.getTags()));
+    }
+
+    @Benchmark
+    public List<String> flatMapLoop(CollectionState state) {
+        List<String> result = new ArrayList<>();
+        for (Item item : state.collection) {
+            for (String tag : item.getTags()) {
+                result.add(tag);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> flatMapCollections(CollectionState state) {
+        return Lists.flatMapCollections(state.collection, Item::getTags);
+    }
+
+    @Benchmark
+    public List<String> flatMapCollectionsLoop(CollectionState state) {
+        List<String> result = new ArrayList<>();
+        for (Item item : state.collection) {
+            result.addAll(item.getTags());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> map(CollectionState state) {
+        return Lists.map(state.collection, Item::getName);
+    }
+
+    @Benchmark
+    public List<String> mapToImmutable(CollectionState state) {
+        return Lists.mapToImmutable(state.collection, Item::getName);
+    }
+
+    @Benchmark
+    public List<String> mapLoop(CollectionState state) {
+        List<String> result = new ArrayList<>(state.collection.size());
+        for (Item item : state.collection) {
+            result.add(item.getName());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> mapBoxed(CollectionState state) {
+        return Lists.map(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public int[] mapToInt(CollectionState state) {
+        return Lists.mapToInt(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public int[] mapToIntLoop(CollectionState state) {
+        int[] result = new int[state.collection.size()];
+        int i = 0;
+        for (Item item : state.collection) {
+            result[i++] = item.getId();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> sort(CollectionState state) {
+        return Lists.sort(state.collection, CollectionState.REVERSED_ID);
+    }
+
+    @Benchmark
+    public List<Item> sortLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>(state.collection);
+        result.sort(CollectionState.REVERSED_ID);
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> sortBy(CollectionState state) {
+        return Lists.sortBy(state.collection, Item::getName);
+    }
+
+    @Benchmark
+    public List<Item> sortByLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>(state.collection);
+        result.sort(Comparator.comparing(Item::getName));
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> sortByComparing(CollectionState state) {
+        return Lists.sort(state.collection, Comparator.comparing(Item::getName));
+    }
+
+    @Benchmark
+    public List<Item> sortByInt(CollectionState state) {
+        return Lists.sortByInt(state.collection, item -> -item.getId());
+    }
+
+    @Benchmark
+    public List<Item> sortByIntLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>(state.collection);
+        result.sort(Comparator.comparingInt(item -> -item.getId()));
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> sortByIntComparing(CollectionState state) {
+        return Lists.sort(state.collection, Comparator.comparingInt(item -> -item.getId()));
+    }
+
+    @Benchmark
+    public List<Item> sortByLong(CollectionState state) {
+        return Lists.sortByLong(state.collection, item -> -(long) item.getId());
+    }
+
+    @Benchmark
+    public List<Item> sortByLongLoop(CollectionState state) {
+        List<Item> result = new ArrayList<>(state.collection);
+        result.sort(Comparator.comparingLong(item -> -(long) item.getId()));
+        return result;
+    }
+
+    @Benchmark
+    public List<Item> topN(CollectionState state) {
+        return Lists.topN(state.collection, CollectionState.REVERSED_ID, 100);
+    }
+
+    @Benchmark
+    public List<Item> topNLoop(CollectionState state) {
+        List<Item> sorted = new ArrayList<>(state.collection);
+        sorted.sort(CollectionState.REVERSED_ID);
+        return new ArrayList<>(sorted.subList(0, Math.min(100, sorted.size())));
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.MatchResult;
+import io.github.avegera.stream.utils.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The predicates never short-circuit, so each benchmark walks through the whole collection.
+ * The containment checks look up the items with even ids, which are all contained in the collection,
+ * and the checks of any containment look up the missing items and ids.
+ */
+public class MatchersBenchmark extends AbstractBenchmark {
+
+    private static final List<Item> MISSING_ITEMS = Arrays.asList(new Item(-1), new Item(-2), new Item(-3));
+
+    private static final List<Integer> MISSING_IDS = Arrays.asList(-1, -2, -3);
+
+    @Benchmark
+    public boolean allMatch(CollectionState state) {
+        return Matchers.allMatch(state.collection, item -> item.getId() >= 0);
+    }
+
+    @Benchmark
+    public boolean allMatchLoop(CollectionState state) {
+        for (Item item : state.collection) {
+            if (item.getId() < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean anyMatch(CollectionState state) {
+        return Matchers.anyMatch(state.collection, item -> item.getId() < 0);
+    }
+
+    @Benchmark
+    public boolean anyMatchLoop(CollectionState state) {
+        for (Item item : state.collection) {
+            if (item.getId() < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean noneMatch(CollectionState state) {
+        return Matchers.noneMatch(state.collection, item -> item.getId() < 0);
+    }
+
+    @Benchmark
+    public boolean noneMatchLoop(CollectionState state) {
+        for (Item item : state.collection) {
+            if (item.getId() < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public MatchResult evaluate(CollectionState state) {
+        return Matchers.evaluate(state.collection, item -> item.getId() >= 0, item -> item.getId() < 0,
+                item -> item.getId() != -1, item -> item.getId() == -1);
+    }
+
+    @Benchmark
+    public boolean evaluateSeparately(CollectionState state) {
+        return Matchers.allMatch(state.collection, item -> item.getId() >= 0)
+                & Matchers.anyMatch(state.collection, item -> item.getId() < 0)
+                & Matchers.allMatch(state.collection, item -> item.getId() != -1)
+                & Matchers.noneMatch(state.collection, item -> item.getId() == -1);
+    }
+
+    @Benchmark
+    public boolean evaluateLoop(CollectionState state) {
+        boolean allNotNegative = true;
+        boolean anyNegative = false;
+        boolean allNotMinusOne = true;
+        boolean anyMinusOne = false;
+        for (Item item : state.collection) {
+            allNotNegative &= item.getId() >= 0;
+            anyNegative |= item.getId() < 0;
+            allNotMinusOne &= item.getId() != -1;
+            anyMinusOne |= item.getId() == -1;
+        }
+        return allNotNegative & anyNegative & allNotMinusOne & !anyMinusOne;
+    }
+
+    @Benchmark
+    public boolean containsAll(CollectionState state) {
+        return Matchers.containsAll(state.collection, state.evenItems);
+    }
+
+    @Benchmark
+    public boolean containsAllLoop(CollectionState state) {
+        Set<Item> items = new HashSet<>(state.collection);
+        for (Item item : state.evenItems) {
+            if (!items.contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean containsAny(CollectionState state) {
+        return Matchers.containsAny(state.collection, MISSING_ITEMS);
+    }
+
+    @Benchmark
+    public boolean containsAnyLoop(CollectionState state) {
+        Set<Item> items = new HashSet<>(MISSING_ITEMS);
+        for (Item item : state.collection) {
+            if (items.contains(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean anyMatchIn(CollectionState state) {
+        return Matchers.anyMatchIn(state.collection, Item::getId, MISSING_IDS);
+    }
+
+    @Benchmark
+    public boolean anyMatchInLoop(CollectionState state) {
+        Set<Integer> ids = new HashSet<>(MISSING_IDS);
+        for (Item item : state.collection) {
+            if (ids.contains(item.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.NumericStats;
+import io.github.avegera.stream.utils.ParallelCounters;
+import io.github.avegera.stream.utils.ParallelFinders;
+import io.github.avegera.stream.utils.ParallelLists;
+import io.github.avegera.stream.utils.ParallelMatchers;
+import io.github.avegera.stream.utils.ParallelOptions;
+import io.github.avegera.stream.utils.ParallelSets;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The parallel method-aliases with the threshold of zero, compare them with the sequential ones from
+ * {@link ListsBenchmark}, {@link SetsBenchmark}, {@link CountersBenchmark}, {@link FindersBenchmark} and {@link MatchersBenchmark}.
+ */
+public class ParallelBenchmark extends AbstractBenchmark {
+
+    private static final ParallelOptions ALWAYS_PARALLEL = ParallelOptions.defaults().threshold(0);
+
+    @Benchmark
+    public Map<Integer, Long> countBy(CollectionState state) {
+        return ParallelCounters.countBy(state.collection, item -> item.getId() % 16, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public long countIf(CollectionState state) {
+        return ParallelCounters.countIf(state.collection, item -> item.getId() % 2 == 0, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public Optional<Item> findAny(CollectionState state) {
+        return ParallelFinders.findAny(state.collection, item -> item.getId() == state.last.getId(), ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public boolean allMatch(CollectionState state) {
+        return ParallelMatchers.allMatch(state.collection, item -> item.getId() >= 0, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public List<Item> filter(CollectionState state) {
+        return ParallelLists.filter(state.collection, Item::isEven, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public List<String> map(CollectionState state) {
+        return ParallelLists.map(state.collection, Item::getName, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public Set<Item> filterToSet(CollectionState state) {
+        return ParallelSets.filterToSet(state.collection, Item::isEven, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public Set<String> mapToSet(CollectionState state) {
+        return ParallelSets.mapToSet(state.collection, Item::getName, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public NumericStats stats(CollectionState state) {
+        return ParallelCounters.stats(state.collection, Item::getId, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public List<Item> sort(CollectionState state) {
+        return ParallelLists.sort(state.collection, CollectionState.REVERSED_ID, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public Set<Item> sortToSet(CollectionState state) {
+        return ParallelSets.sortToSet(state.collection, CollectionState.REVERSED_ID, ALWAYS_PARALLEL);
+    }
+
+    @Benchmark
+    public List<Item> topN(CollectionState state) {
+        return ParallelLists.topN(state.collection, CollectionState.REVERSED_ID, 100, ALWAYS_PARALLEL);
+    }
+}
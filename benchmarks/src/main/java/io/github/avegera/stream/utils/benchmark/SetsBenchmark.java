@@ -0,0 +1,314 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.IntSet;
+import io.github.avegera.stream.utils.Sets;
+import io.github.avegera.stream.utils.Streams;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class SetsBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public Set<Item> collectToSet(CollectionState state) {
+        return Sets.collectToSet(state.collection);
+    }
+
+    @Benchmark
+    public Set<Item> collectToSetLoop(CollectionState state) {
+        return new HashSet<>(state.collection);
+    }
+
+    @Benchmark
+    public Set<Item> distinctToSet(CollectionState state) {
+        return Sets.distinctToSet(state.collection);
+    }
+
+    @Benchmark
+    public Set<Item> distinctToSetLoop(CollectionState state) {
+        Set<Item> result = new HashSet<>();
+        for (Item item : state.collection) {
+            result.add(item);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Item> intersection(CollectionState state) {
+        return Sets.intersection(state.collection, state.evenItems);
+    }
+
+    @Benchmark
+    public Set<Item> intersectionLoop(CollectionState state) {
+        Set<Item> items = new HashSet<>(state.collection);
+        Set<Item> result = new HashSet<>();
+        for (Item item : state.evenItems) {
+            if (items.contains(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Item> intersectionFilter(CollectionState state) {
+        return Sets.filterToSet(state.collection, state.evenItems::contains);
+    }
+
+    @Benchmark
+    public long intersectionView(CollectionState state) {
+        return sumIds(Sets.intersectionView(state.itemSet, state.evenItemSet));
+    }
+
+    @Benchmark
+    public long intersectionViewLoop(CollectionState state) {
+        long result = 0;
+        for (Item item : state.evenItemSet) {
+            if (state.itemSet.contains(item)) {
+                result += item.getId();
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Item> difference(CollectionState state) {
+        return Sets.difference(state.collection, state.evenItems);
+    }
+
+    @Benchmark
+    public Set<Item> differenceLoop(CollectionState state) {
+        Set<Item> excluded = new HashSet<>(state.evenItems);
+        Set<Item> result = new HashSet<>();
+        for (Item item : state.collection) {
+            if (!excluded.contains(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long differenceView(CollectionState state) {
+        return sumIds(Sets.differenceView(state.itemSet, state.evenItemSet));
+    }
+
+    @Benchmark
+    public long differenceViewLoop(CollectionState state) {
+        long result = 0;
+        for (Item item : state.itemSet) {
+            if (!state.evenItemSet.contains(item)) {
+                result += item.getId();
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Item> symmetricDifference(CollectionState state) {
+        return Sets.symmetricDifference(state.collection, state.evenItems);
+    }
+
+    @Benchmark
+    public Set<Item> symmetricDifferenceLoop(CollectionState state) {
+        Set<Item> first = new HashSet<>(state.collection);
+        Set<Item> second = new HashSet<>(state.evenItems);
+        Set<Item> result = new HashSet<>();
+        for (Item item : first) {
+            if (!second.contains(item)) {
+                result.add(item);
+            }
+        }
+        for (Item item : second) {
+            if (!first.contains(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long symmetricDifferenceView(CollectionState state) {
+        return sumIds(Sets.symmetricDifferenceView(state.itemSet, state.evenItemSet));
+    }
+
+    @Benchmark
+    public long symmetricDifferenceViewLoop(CollectionState state) {
+        long result = 0;
+        for (Item item : state.itemSet) {
+            if (!state.evenItemSet.contains(item)) {
+                result += item.getId();
+            }
+        }
+        for (Item item : state.evenItemSet) {
+            if (!state.itemSet.contains(item)) {
+                result += item.getId();
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Item> union(CollectionState state) {
+        return Sets.union(state.collection, state.evenItems);
+    }
+
+    @Benchmark
+    public Set<Item> unionLoop(CollectionState state) {
+        Set<Item> result = new HashSet<>();
+        for (Item item : state.collection) {
+            result.add(item);
+        }
+        for (Item item : state.evenItems) {
+            result.add(item);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long unionView(CollectionState state) {
+        return sumIds(Sets.unionView(state.itemSet, state.evenItemSet));
+    }
+
+    @Benchmark
+    public long unionViewLoop(CollectionState state) {
+        long result = 0;
+        for (Item item : state.itemSet) {
+            result += item.getId();
+        }
+        for (Item item : state.evenItemSet) {
+            if (!state.itemSet.contains(item)) {
+                result += item.getId();
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Item> filterToSet(CollectionState state) {
+        return Sets.filterToSet(state.collection, Item::isEven);
+    }
+
+    @Benchmark
+    public Set<Item> filterToSetLoop(CollectionState state) {
+        Set<Item> result = new HashSet<>();
+        for (Item item : state.collection) {
+            if (item.isEven()) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<String> flatMapToSet(CollectionState state) {
+        return Sets.flatMapToSet(state.collection, item -> Streams.safeStream(item.getTags()));
+    }
+
+    @Benchmark
+    public Set<String> flatMapToSetLoop(CollectionState state) {
+        Set<String> result = new HashSet<>();
+        for (Item item : state.collection) {
+            for (String tag : item.getTags()) {
+                result.add(tag);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<String> flatMapCollectionsToSet(CollectionState state) {
+        return Sets.flatMapCollectionsToSet(state.collection, Item::getTags);
+    }
+
+    @Benchmark
+    public Set<String> flatMapCollectionsToSetLoop(CollectionState state) {
+        Set<String> result = new HashSet<>();
+        for (Item item : state.collection) {
+            result.addAll(item.getTags());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntSet mapToIntSet(CollectionState state) {
+        return Sets.mapToIntSet(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public Set<Integer> mapToIntSetLoop(CollectionState state) {
+        Set<Integer> result = new HashSet<>();
+        for (Item item : state.collection) {
+            result.add(item.getId());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Integer> mapToIntSetBoxed(CollectionState state) {
+        return Sets.mapToSet(state.collection, Item::getId);
+    }
+
+    @Benchmark
+    public Set<String> mapToSet(CollectionState state) {
+        return Sets.mapToSet(state.collection, Item::getName);
+    }
+
+    @Benchmark
+    public Set<String> mapToLinkedHashSet(CollectionState state) {
+        return Sets.mapToSet(state.collection, Item::getName, LinkedHashSet::new);
+    }
+
+    @Benchmark
+    public Set<String> mapToImmutableSet(CollectionState state) {
+        return Sets.mapToImmutableSet(state.collection, Item::getName);
+    }
+
+    @Benchmark
+    public Set<String> mapToSetLoop(CollectionState state) {
+        Set<String> result = new HashSet<>();
+        for (Item item : state.collection) {
+            result.add(item.getName());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Item> sortToSet(CollectionState state) {
+        return Sets.sortToSet(state.collection, CollectionState.REVERSED_ID);
+    }
+
+    @Benchmark
+    public Set<Item> sortToSetLoop(CollectionState state) {
+        List<Item> sorted = new ArrayList<>(state.collection);
+        sorted.sort(CollectionState.REVERSED_ID);
+        return new LinkedHashSet<>(sorted);
+    }
+
+    @Benchmark
+    public Set<Item> topNToSet(CollectionState state) {
+        return Sets.topNToSet(state.collection, CollectionState.REVERSED_ID, 100);
+    }
+
+    @Benchmark
+    public Set<Item> topNToSetLoop(CollectionState state) {
+        List<Item> sorted = new ArrayList<>(new LinkedHashSet<>(state.collection));
+        sorted.sort(CollectionState.REVERSED_ID);
+        return new LinkedHashSet<>(sorted.subList(0, Math.min(100, sorted.size())));
+    }
+
+    /**
+     * Iterates the set view, so the benchmark measures the iteration of the view and not only its creation.
+     */
+    private static long sumIds(Set<Item> items) {
+        long result = 0;
+        for (Item item : items) {
+            result += item.getId();
+        }
+        return result;
+    }
+}
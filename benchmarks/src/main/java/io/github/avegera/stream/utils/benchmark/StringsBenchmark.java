@@ -0,0 +1,27 @@
+package io.github.avegera.stream.utils.benchmark;
+
+import io.github.avegera.stream.utils.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.Iterator;
+
+public class StringsBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public String joinToString(CollectionState state) {
+        return Strings.joinToString(state.collection, ",");
+    }
+
+    @Benchmark
+    public String joinToStringLoop(CollectionState state) {
+        StringBuilder builder = new StringBuilder();
+        Iterator<Item> iterator = state.collection.iterator();
+        if (iterator.hasNext()) {
+            builder.append(iterator.next());
+            while (iterator.hasNext()) {
+                builder.append(',').append(iterator.next());
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.avegera.stream.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The heap that keeps the least {@code capacity} offered items in O(log capacity) per offer.
+ * <p>
+ * Items are ordered by the comparator and then by their encounter index, so the selection is stable:
+ * it is the same as the first {@code capacity} items of the stable sort. The greatest kept item is the root of the heap
+ * and it is replaced by any lesser offered item. The storage grows on demand up to the capacity.
+ * <p>
+ * In the distinct mode the heap keeps a single item of the equal ones: the least one by the comparator and then
+ * by the encounter index, which is the item that {@link java.util.LinkedHashSet} keeps from the stable sort.
+ * An offered item equal to the kept one replaces it if it is lesser and it is skipped otherwise, so the result
+ * doesn't depend on the comparator being consistent with equals. The positions of the kept items are tracked
+ * by a hash map for the replacement.
+ */
+final class BoundedHeap<T> {
+
+    private static final int INITIAL_STORAGE = 16;
+
+    private final Comparator<? super T> comparator;
+
+    private final int capacity;
+
+    private final Map<T, Integer> positions;
+
+    private Object[] items;
+
+    private int[] indexes;
+
+    private int size;
+
+    BoundedHeap(Comparator<? super T> comparator, int capacity, boolean distinct) {
+        this.comparator = comparator;
+        this.capacity = capacity;
+        this.positions = distinct ? new HashMap<>() : null;
+        int storage = Math.min(capacity, INITIAL_STORAGE);
+        this.items = new Object[storage];
+        this.indexes = new int[storage];
+    }
+
+    void offer(T item, int index) {
+        if (positions != null) {
+            Integer position = positions.get(item);
+            if (position != null) {
+                if (compare(item, index, position) < 0) {
+                    set(position, item, index);
+                    siftDown(position);
+                }
+                return;
+            }
+        }
+        if (size < capacity) {
+            if (size == items.length) {
+                int storage = (int) Math.min(capacity, size * 2L);
+                items = Arrays.copyOf(items, storage);
+                indexes = Arrays.copyOf(indexes, storage);
+            }
+            set(size, item, index);
+            siftUp(size++);
+        } else if (size > 0 && compare(item, index, 0) < 0) {
+            removeMember(get(0));
+            set(0, item, index);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Offers all items of the other heap, their encounter indexes are kept.
+     */
+    BoundedHeap<T> merge(BoundedHeap<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.get(i), other.indexes[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the kept items in ascending order, the heap is emptied.
+     */
+    List<T> toSortedList() {
+        Object[] sorted = new Object[size];
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = items[0];
+            size--;
+            set(0, get(size), indexes[size]);
+            items[size] = null;
+            siftDown(0);
+        }
+        List<T> result = new ArrayList<>(sorted.length);
+        for (Object item : sorted) {
+            result.add(cast(item));
+        }
+        return result;
+    }
+
+    private void siftUp(int position) {
+        T item = get(position);
+        int index = indexes[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (compare(item, index, parent) <= 0) {
+                break;
+            }
+            set(position, get(parent), indexes[parent]);
+            position = parent;
+        }
+        set(position, item, index);
+    }
+
+    private void siftDown(int position) {
+        if (size == 0) {
+            return;
+        }
+        T item = get(position);
+        int index = indexes[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && compare(get(right), indexes[right], child) > 0) {
+                child = right;
+            }
+            if (compare(item, index, child) >= 0) {
+                break;
+            }
+            set(position, get(child), indexes[child]);
+            position = child;
+        }
+        set(position, item, index);
+    }
+
+    private int compare(T item, int index, int position) {
+        int result = comparator.compare(item, get(position));
+        return result != 0 ? result : Integer.compare(index, indexes[position]);
+    }
+
+    private T get(int position) {
+        return cast(items[position]);
+    }
+
+    private void set(int position, T item, int index) {
+        items[position] = item;
+        indexes[position] = index;
+        if (positions != null) {
+            positions.put(item, position);
+        }
+    }
+
+    private void removeMember(T item) {
+        if (positions != null) {
+            positions.remove(item);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object item) {
+        return (T) item;
+    }
+}
@@ -1,12 +1,48 @@
 package io.github.avegera.stream.utils;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-import static io.github.avegera.stream.utils.Streams.safeStream;
+import static io.github.avegera.stream.utils.Loops.checkLimit;
+import static io.github.avegera.stream.utils.Loops.size;
+import static java.util.Objects.requireNonNull;
 
 /**
  * The class contains laconic method-aliases for safety count operations with collections in Java.
- * The result of the class methods execution is a long value.
+ * The results are the counts and sums of the items, the counts per key, the extreme items, the numeric statistics
+ * and the sketches of distinct keys, frequent keys and quantiles.
+ * <p>
+ * {@code count} returns the size of the collection in constant time, {@code countIf} counts the matched items
+ * by the indexed loop over {@link java.util.RandomAccess} lists and by the iterator over other collections.
+ * <p>
+ * {@code countBy} returns the number of items per key, the items are counted by mutable primitive counters
+ * and each count is boxed once in the result.
+ * <p>
+ * {@code countDistinctApprox} estimates the number of distinct keys by the {@link HyperLogLog} sketch
+ * without keeping the keys, {@code countDistinctSketch} returns the sketch itself to merge it with others.
+ * The keys are hashed as {@link HyperLogLog#add(Object)} does, the {@code ByLong} overloads take the 64-bit key
+ * or hash of the item for the keys with 32-bit or JVM-specific hash codes.
+ * <p>
+ * {@code topKFrequent} returns the most frequent keys with the error bounds of their counts, they are counted
+ * by the {@link HeavyHitters} summary of {@code 10 * k} counters unless the capacity is given.
+ * {@code countFrequentSketch} returns the summary itself to merge it with the summaries of other batches.
+ * <p>
+ * The numeric aggregations take a primitive extractor and make a single pass without boxing:
+ * {@code sumInt} sums to the long, {@code sumDouble} uses the compensated summation,
+ * {@code stats} returns the {@link NumericStats} of count, sum, min, max, mean and variance.
+ * <p>
+ * {@code quantiles} estimates the quantiles, e.g. the median and p99, by the {@link QuantileSketch}
+ * in the memory bounded by its {@code k}, {@code quantileSketch} returns the sketch itself to merge it with others.
+ * {@code quantilesExact} copies the values to a primitive array and selects the ranks by the in-place quickselect.
+ * Both use the nearest rank definition: the quantile of {@code q} is the least value with the rank of {@code q * n}.
  */
 public class Counters {
 
@@ -15,7 +51,108 @@ public class Counters {
     }
 
     public static <T> long count(Collection<T> collection) {
-        return safeStream(collection)
-                .count();
+        return size(collection);
     }
-}
\ No newline at end of file
+
+    public static <T, K> Map<K, Long> countBy(Collection<T> collection, Function<T, K> classifier) {
+        return Loops.toCounts(Loops.countBy(collection, classifier));
+    }
+
+    public static <T> long countIf(Collection<T> collection, Predicate<T> predicate) {
+        return Loops.countIf(collection, predicate);
+    }
+
+    public static <T, K> long countDistinctApprox(Collection<T> collection, Function<T, K> keyExtractor) {
+        return countDistinctApprox(collection, keyExtractor, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    public static <T, K> long countDistinctApprox(Collection<T> collection, Function<T, K> keyExtractor, int precision) {
+        return countDistinctSketch(collection, keyExtractor, precision).estimate();
+    }
+
+    public static <T> long countDistinctApproxByLong(Collection<T> collection, ToLongFunction<T> hasher) {
+        return countDistinctApproxByLong(collection, hasher, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    public static <T> long countDistinctApproxByLong(Collection<T> collection, ToLongFunction<T> hasher, int precision) {
+        return countDistinctSketchByLong(collection, hasher, precision).estimate();
+    }
+
+    public static <T, K> HyperLogLog countDistinctSketch(Collection<T> collection, Function<T, K> keyExtractor, int precision) {
+        requireNonNull(keyExtractor);
+        HyperLogLog sketch = new HyperLogLog(precision);
+        Loops.forEach(collection, item -> sketch.add(keyExtractor.apply(item)));
+        return sketch;
+    }
+
+    public static <T> HyperLogLog countDistinctSketchByLong(Collection<T> collection, ToLongFunction<T> hasher,
+                                                            int precision) {
+        requireNonNull(hasher);
+        HyperLogLog sketch = new HyperLogLog(precision);
+        Loops.forEach(collection, item -> sketch.addLong(hasher.applyAsLong(item)));
+        return sketch;
+    }
+
+    public static <T, K> HeavyHitters<K> countFrequentSketch(Collection<T> collection, Function<T, K> keyExtractor,
+                                                             int capacity) {
+        requireNonNull(keyExtractor);
+        HeavyHitters<K> sketch = new HeavyHitters<>(capacity);
+        Loops.forEach(collection, item -> sketch.add(keyExtractor.apply(item)));
+        return sketch;
+    }
+
+    public static <T> Optional<T> maxBy(Collection<T> collection, Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        return Loops.min(collection, comparator.reversed());
+    }
+
+    public static <T> Optional<T> minBy(Collection<T> collection, Comparator<? super T> comparator) {
+        return Loops.min(collection, comparator);
+    }
+
+    public static <T> QuantileSketch quantileSketch(Collection<T> collection, ToDoubleFunction<T> mapper, int k) {
+        requireNonNull(mapper);
+        QuantileSketch sketch = new QuantileSketch(k);
+        Loops.forEach(collection, item -> sketch.accept(mapper.applyAsDouble(item)));
+        return sketch;
+    }
+
+    public static <T> double[] quantiles(Collection<T> collection, ToDoubleFunction<T> mapper, double... qs) {
+        requireNonNull(qs);
+        return quantileSketch(collection, mapper, QuantileSketch.DEFAULT_K).quantiles(qs);
+    }
+
+    public static <T> double[] quantilesExact(Collection<T> collection, ToDoubleFunction<T> mapper, double... qs) {
+        requireNonNull(qs);
+        return Selection.quantiles(Loops.mapToDouble(collection, mapper), qs);
+    }
+
+    public static <T> NumericStats stats(Collection<T> collection, ToDoubleFunction<T> mapper) {
+        requireNonNull(mapper);
+        NumericStats stats = new NumericStats();
+        Loops.forEach(collection, item -> stats.accept(mapper.applyAsDouble(item)));
+        return stats;
+    }
+
+    public static <T> double sumDouble(Collection<T> collection, ToDoubleFunction<T> mapper) {
+        return Loops.sumDouble(collection, mapper);
+    }
+
+    public static <T> long sumInt(Collection<T> collection, ToIntFunction<T> mapper) {
+        return Loops.sumInt(collection, mapper);
+    }
+
+    public static <T> long sumLong(Collection<T> collection, ToLongFunction<T> mapper) {
+        return Loops.sumLong(collection, mapper);
+    }
+
+    public static <T, K> List<HeavyHitters.Entry<K>> topKFrequent(Collection<T> collection, Function<T, K> keyExtractor, int k) {
+        checkLimit(k);
+        return topKFrequent(collection, keyExtractor, k, (int) Math.min(Integer.MAX_VALUE, Math.max(1L, k * 10L)));
+    }
+
+    public static <T, K> List<HeavyHitters.Entry<K>> topKFrequent(Collection<T> collection, Function<T, K> keyExtractor, int k,
+                                                                  int capacity) {
+        return countFrequentSketch(collection, keyExtractor, capacity).topK(k);
+    }
+}
@@ -1,12 +1,44 @@
 package io.github.avegera.stream.utils;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.SortedSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-import static io.github.avegera.stream.utils.Streams.safeStream;
+import static io.github.avegera.stream.utils.Loops.isEmpty;
+import static java.util.Objects.requireNonNull;
 
 /**
  * The class contains laconic method-aliases for safely performing search operations in Java-collections.
+ * <p>
+ * The first and the last items are read without a stream: by {@code get} of a {@link List},
+ * by {@code peekFirst} and {@code peekLast} of a {@link Deque}, by {@code first} and {@code last} of a {@link SortedSet},
+ * so {@code findLast} takes constant time for these collections and iterates other collections to the end.
+ * As the stream-based search does, the methods throw {@link NullPointerException} if the found item is null.
+ * <p>
+ * The methods with a predicate stop at the first matched item without collecting the filtered items,
+ * {@link ParallelFinders} searches large collections in parallel.
+ * <p>
+ * {@code findInSorted} and {@code rangeInSorted} take a list sorted by the key and binary-search it
+ * if it is {@link RandomAccess}. The range is the half-open interval {@code [from, to)} of keys and it is returned
+ * as the {@link List#subList(int, int) view} of the list without copying. The {@code ByInt} and {@code ByLong}
+ * overloads compare the primitive keys without boxing.
+ * <p>
+ * {@code index} builds the {@link Lookup} of the items by a key once, so the repeated searches by the key take
+ * constant time instead of a pass each, {@code indexByInt} and {@code indexByLong} don't box the keys.
+ * {@code indexLazily} returns the supplier of the index that is rebuilt on the next call after the source
+ * returns another collection or the collection size changes, the replaced items of the same collection
+ * without a change of the size are not detected.
  */
 public class Finders {
 
@@ -15,36 +47,181 @@ public class Finders {
     }
 
     public static <T> Optional<T> findAny(Collection<T> collection) {
-        return safeStream(collection)
-                .findAny();
+        return first(collection);
+    }
+
+    public static <T> Optional<T> findAny(Collection<T> collection, Predicate<T> predicate) {
+        return Loops.findFirst(collection, predicate);
     }
 
     public static <T> T findAnyOrDefault(Collection<T> collection, T defaultValue) {
-        return safeStream(collection)
-                .findAny()
+        return first(collection)
+                .orElse(defaultValue);
+    }
+
+    public static <T> T findAnyOrDefault(Collection<T> collection, Predicate<T> predicate, T defaultValue) {
+        return Loops.findFirst(collection, predicate)
                 .orElse(defaultValue);
     }
 
     public static <T> T findAnyOrNull(Collection<T> collection) {
-        return safeStream(collection)
-                .findAny()
+        return first(collection)
+                .orElse(null);
+    }
+
+    public static <T> T findAnyOrNull(Collection<T> collection, Predicate<T> predicate) {
+        return Loops.findFirst(collection, predicate)
                 .orElse(null);
     }
 
     public static <T> Optional<T> findFirst(Collection<T> collection) {
-        return safeStream(collection)
-                .findFirst();
+        return first(collection);
+    }
+
+    public static <T> Optional<T> findFirst(Collection<T> collection, Predicate<T> predicate) {
+        return Loops.findFirst(collection, predicate);
     }
 
     public static <T> T findFirstOrDefault(Collection<T> collection, T defaultValue) {
-        return safeStream(collection)
-                .findFirst()
+        return first(collection)
+                .orElse(defaultValue);
+    }
+
+    public static <T> T findFirstOrDefault(Collection<T> collection, Predicate<T> predicate, T defaultValue) {
+        return Loops.findFirst(collection, predicate)
                 .orElse(defaultValue);
     }
 
     public static <T> T findFirstOrNull(Collection<T> collection) {
-        return safeStream(collection)
-                .findFirst()
+        return first(collection)
+                .orElse(null);
+    }
+
+    public static <T> T findFirstOrNull(Collection<T> collection, Predicate<T> predicate) {
+        return Loops.findFirst(collection, predicate)
+                .orElse(null);
+    }
+
+    public static <T, K extends Comparable<? super K>> Optional<T> findInSorted(List<T> list, K key,
+                                                                                 Function<T, K> keyExtractor) {
+        return findInSorted(list, key, keyExtractor, Comparator.naturalOrder());
+    }
+
+    public static <T, K> Optional<T> findInSorted(List<T> list, K key, Function<T, K> keyExtractor,
+                                                  Comparator<? super K> comparator) {
+        requireNonNull(keyExtractor);
+        requireNonNull(comparator);
+        return Searching.find(list, item -> comparator.compare(keyExtractor.apply(item), key) < 0,
+                item -> comparator.compare(keyExtractor.apply(item), key) > 0);
+    }
+
+    public static <T> Optional<T> findInSortedByInt(List<T> list, int key, ToIntFunction<T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        return Searching.find(list, item -> keyExtractor.applyAsInt(item) < key, item -> keyExtractor.applyAsInt(item) > key);
+    }
+
+    public static <T> Optional<T> findInSortedByLong(List<T> list, long key, ToLongFunction<T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        return Searching.find(list, item -> keyExtractor.applyAsLong(item) < key, item -> keyExtractor.applyAsLong(item) > key);
+    }
+
+    public static <T> Optional<T> findLast(Collection<T> collection) {
+        return last(collection);
+    }
+
+    public static <T> T findLastOrDefault(Collection<T> collection, T defaultValue) {
+        return last(collection)
+                .orElse(defaultValue);
+    }
+
+    public static <T> T findLastOrNull(Collection<T> collection) {
+        return last(collection)
                 .orElse(null);
     }
-}
\ No newline at end of file
+
+    public static <T, K> Lookup<K, T> index(Collection<T> collection, Function<T, K> keyExtractor) {
+        return Lookup.of(collection, keyExtractor);
+    }
+
+    public static <T> IntLookup<T> indexByInt(Collection<T> collection, ToIntFunction<T> keyExtractor) {
+        return IntLookup.of(collection, keyExtractor);
+    }
+
+    public static <T> LongLookup<T> indexByLong(Collection<T> collection, ToLongFunction<T> keyExtractor) {
+        return LongLookup.of(collection, keyExtractor);
+    }
+
+    public static <T, K> Supplier<Lookup<K, T>> indexLazily(Supplier<? extends Collection<T>> source,
+                                                             Function<T, K> keyExtractor) {
+        return Lookup.lazy(source, keyExtractor);
+    }
+
+    public static <T, K extends Comparable<? super K>> List<T> rangeInSorted(List<T> list, K from, K to,
+                                                                            Function<T, K> keyExtractor) {
+        return rangeInSorted(list, from, to, keyExtractor, Comparator.naturalOrder());
+    }
+
+    public static <T, K> List<T> rangeInSorted(List<T> list, K from, K to, Function<T, K> keyExtractor,
+                                               Comparator<? super K> comparator) {
+        requireNonNull(keyExtractor);
+        requireNonNull(comparator);
+        Searching.checkRange(comparator.compare(from, to));
+        return Searching.range(list, item -> comparator.compare(keyExtractor.apply(item), from) < 0,
+                item -> comparator.compare(keyExtractor.apply(item), to) < 0);
+    }
+
+    public static <T> List<T> rangeInSortedByInt(List<T> list, int from, int to, ToIntFunction<T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        Searching.checkRange(Integer.compare(from, to));
+        return Searching.range(list, item -> keyExtractor.applyAsInt(item) < from, item -> keyExtractor.applyAsInt(item) < to);
+    }
+
+    public static <T> List<T> rangeInSortedByLong(List<T> list, long from, long to, ToLongFunction<T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        Searching.checkRange(Long.compare(from, to));
+        return Searching.range(list, item -> keyExtractor.applyAsLong(item) < from, item -> keyExtractor.applyAsLong(item) < to);
+    }
+
+    private static <T> Optional<T> first(Collection<T> collection) {
+        if (isEmpty(collection)) {
+            return Optional.empty();
+        }
+        if (collection instanceof List) {
+            return Optional.of(((List<T>) collection).get(0));
+        }
+        if (collection instanceof Deque) {
+            return Optional.of(((Deque<T>) collection).peekFirst());
+        }
+        if (collection instanceof SortedSet) {
+            return Optional.of(((SortedSet<T>) collection).first());
+        }
+        return Optional.of(collection.iterator().next());
+    }
+
+    private static <T> Optional<T> last(Collection<T> collection) {
+        if (isEmpty(collection)) {
+            return Optional.empty();
+        }
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<T> list = (List<T>) collection;
+            return Optional.of(list.get(list.size() - 1));
+        }
+        if (collection instanceof Deque) {
+            return Optional.of(((Deque<T>) collection).peekLast());
+        }
+        if (collection instanceof SortedSet) {
+            return Optional.of(((SortedSet<T>) collection).last());
+        }
+        if (collection instanceof List) {
+            List<T> list = (List<T>) collection;
+            ListIterator<T> iterator = list.listIterator(list.size());
+            return Optional.of(iterator.previous());
+        }
+        Iterator<T> iterator = collection.iterator();
+        T result = iterator.next();
+        while (iterator.hasNext()) {
+            result = iterator.next();
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.avegera.stream.utils;
+
+/**
+ * The class contains the 64-bit hashing of the items for the sketches.
+ * <p>
+ * The integral numbers are taken by their value, strings and byte arrays are hashed by their content
+ * with the 64-bit half of MurmurHash3 x64 128, a string is hashed as its UTF-16LE bytes. Enums are hashed
+ * by the names of the class and the constant, so their hashes are the same in every JVM. Other items are taken
+ * by their {@link Object#hashCode()}, which has 32 bits only.
+ */
+final class Hashing {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private Hashing() {
+        //empty private constructor
+    }
+
+    /**
+     * Returns the 64-bit key of the item, it should be spread by {@link #mix(long)} before use.
+     */
+    static long hash(Object item) {
+        if (item instanceof Long || item instanceof Integer || item instanceof Short || item instanceof Byte) {
+            return ((Number) item).longValue();
+        }
+        if (item instanceof String) {
+            return murmur3((String) item);
+        }
+        if (item instanceof byte[]) {
+            return murmur3((byte[]) item);
+        }
+        if (item instanceof Enum) {
+            Enum<?> constant = (Enum<?>) item;
+            return 31 * murmur3(constant.getDeclaringClass().getName()) + murmur3(constant.name());
+        }
+        return item == null ? 0 : item.hashCode();
+    }
+
+    /**
+     * The finalizer of MurmurHash3 over the shifted value, it spreads every input bit over the whole hash.
+     * The shift keeps the zero value from the zero hash.
+     */
+    static long mix(long value) {
+        return finalizer(value + 0x9E3779B97F4A7C15L);
+    }
+
+    static long murmur3(byte[] bytes) {
+        long h1 = 0;
+        long h2 = 0;
+        int blockEnd = bytes.length & ~15;
+        for (int i = 0; i < blockEnd; i += 16) {
+            h1 ^= mixK1(bytesToLong(bytes, i, 8));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(bytesToLong(bytes, i + 8, 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        int tail = bytes.length - blockEnd;
+        if (tail > 8) {
+            h2 ^= mixK2(bytesToLong(bytes, blockEnd + 8, tail - 8));
+        }
+        if (tail > 0) {
+            h1 ^= mixK1(bytesToLong(bytes, blockEnd, Math.min(tail, 8)));
+        }
+        return finish(h1, h2, bytes.length);
+    }
+
+    static long murmur3(String string) {
+        long h1 = 0;
+        long h2 = 0;
+        int blockEnd = string.length() & ~7;
+        for (int i = 0; i < blockEnd; i += 8) {
+            h1 ^= mixK1(charsToLong(string, i, 4));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(charsToLong(string, i + 4, 4));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        int tail = string.length() - blockEnd;
+        if (tail > 4) {
+            h2 ^= mixK2(charsToLong(string, blockEnd + 4, tail - 4));
+        }
+        if (tail > 0) {
+            h1 ^= mixK1(charsToLong(string, blockEnd, Math.min(tail, 4)));
+        }
+        return finish(h1, h2, 2L * string.length());
+    }
+
+    private static long mixK1(long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long finish(long h1, long h2, long length) {
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        return finalizer(h1) + finalizer(h2);
+    }
+
+    private static long finalizer(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Reads the little-endian long of up to 8 bytes.
+     */
+    private static long bytesToLong(byte[] bytes, int from, int count) {
+        long result = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            result = result << 8 | (bytes[from + i] & 0xff);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the little-endian long of up to 4 chars.
+     */
+    private static long charsToLong(String string, int from, int count) {
+        long result = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            result = result << 16 | string.charAt(from + i);
+        }
+        return result;
+    }
+}
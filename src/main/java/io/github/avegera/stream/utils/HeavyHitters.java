@@ -0,0 +1,282 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.github.avegera.stream.utils.Loops.checkLimit;
+import static io.github.avegera.stream.utils.Loops.hashCapacity;
+
+/**
+ * The Space-Saving summary of the most frequent keys that keeps at most {@code capacity} counters.
+ * <p>
+ * A new key replaces the key with the least count and takes over its count as the error of the estimate,
+ * so the estimated count of a key is never less than its true count and exceeds it at most by the error.
+ * Any key that occurs more than {@code total / capacity} times is kept by the summary.
+ * The least counter is found by the binary min-heap in O(log capacity) per added key.
+ * <p>
+ * Summaries are merged by {@link #merge(HeavyHitters)}: a key missing in a full summary is counted
+ * with the least count of that summary, which is the upper bound of its count there.
+ * The summary is serializable and it is not thread-safe.
+ */
+public final class HeavyHitters<K> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Comparator<Entry<?>> MOST_FREQUENT = Comparator.<Entry<?>>comparingLong(Entry::getCount)
+            .reversed()
+            .thenComparingLong(Entry::getError);
+
+    private final int capacity;
+
+    private Map<K, Counter<K>> counters;
+
+    private Counter<K>[] heap;
+
+    private int size;
+
+    private long total;
+
+    public HeavyHitters(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>();
+        this.heap = newHeap(Math.min(capacity, 16));
+    }
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    public void add(K key, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count should not be negative: " + count);
+        }
+        total += count;
+        Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            counter.count += count;
+            siftDown(counter.position);
+        } else if (size < capacity) {
+            push(new Counter<>(key, count, 0));
+        } else {
+            Counter<K> least = heap[0];
+            counters.remove(least.key);
+            least.key = key;
+            least.error = least.count;
+            least.count += count;
+            counters.put(key, least);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Adds the counts of the other summary, the capacity of this summary is kept.
+     */
+    public HeavyHitters<K> merge(HeavyHitters<K> other) {
+        long leastCount = leastCount();
+        long otherLeastCount = other.leastCount();
+        List<Counter<K>> merged = new ArrayList<>(size + other.size);
+        for (int i = 0; i < size; i++) {
+            Counter<K> counter = heap[i];
+            Counter<K> otherCounter = other.counters.get(counter.key);
+            merged.add(otherCounter == null
+                    ? new Counter<>(counter.key, counter.count + otherLeastCount, counter.error + otherLeastCount)
+                    : new Counter<>(counter.key, counter.count + otherCounter.count, counter.error + otherCounter.error));
+        }
+        for (int i = 0; i < other.size; i++) {
+            Counter<K> otherCounter = other.heap[i];
+            if (!counters.containsKey(otherCounter.key)) {
+                merged.add(new Counter<>(otherCounter.key, otherCounter.count + leastCount, otherCounter.error + leastCount));
+            }
+        }
+        merged.sort(Comparator.<Counter<K>>comparingLong(counter -> counter.count).reversed());
+        long mergedTotal = total + other.total;
+        counters = new HashMap<>(hashCapacity(Math.min(capacity, merged.size())));
+        heap = newHeap(Math.min(capacity, Math.max(merged.size(), 1)));
+        size = 0;
+        for (int i = 0, count = Math.min(capacity, merged.size()); i < count; i++) {
+            push(merged.get(i));
+        }
+        total = mergedTotal;
+        return this;
+    }
+
+    /**
+     * Returns the entries of the {@code k} most frequent keys in the descending order of the estimated count.
+     */
+    public List<Entry<K>> topK(int k) {
+        checkLimit(k);
+        List<Entry<K>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Counter<K> counter = heap[i];
+            entries.add(new Entry<>(counter.key, counter.count, counter.error));
+        }
+        entries.sort(MOST_FREQUENT);
+        return new ArrayList<>(entries.subList(0, Math.min(k, entries.size())));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the total count of the added keys.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHitters{capacity=" + capacity + ", total=" + total + ", top=" + topK(Math.min(size, 10)) + "}";
+    }
+
+    private long leastCount() {
+        return size == capacity ? heap[0].count : 0;
+    }
+
+    private void push(Counter<K> counter) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, (int) Math.min(capacity, size * 2L));
+        }
+        counters.put(counter.key, counter);
+        heap[size] = counter;
+        counter.position = size;
+        siftUp(size++);
+    }
+
+    private void siftUp(int position) {
+        Counter<K> counter = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(counter, position);
+    }
+
+    private void siftDown(int position) {
+        Counter<K> counter = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(counter, position);
+    }
+
+    private void place(Counter<K> counter, int position) {
+        heap[position] = counter;
+        counter.position = position;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Counter<K>[] newHeap(int length) {
+        return (Counter<K>[]) new Counter<?>[length];
+    }
+
+    private static final class Counter<K> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private K key;
+
+        private long count;
+
+        private long error;
+
+        private int position;
+
+        Counter(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The key with its estimated count: the true count is between {@code count - error} and {@code count}.
+     */
+    public static final class Entry<K> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final K key;
+
+        private final long count;
+
+        private final long error;
+
+        Entry(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the estimated count, it is the upper bound of the true count.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the maximal overestimation of the count.
+         */
+        public long getError() {
+            return error;
+        }
+
+        /**
+         * Returns the guaranteed count, it is the lower bound of the true count.
+         */
+        public long getLowerBound() {
+            return count - error;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?> other = (Entry<?>) o;
+            return count == other.count && error == other.error && Objects.equals(key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, count, error);
+        }
+
+        @Override
+        public String toString() {
+            return error > 0 ? key + "=" + count + " (error " + error + ")" : key + "=" + count;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The HyperLogLog sketch that estimates the number of distinct items in {@code 2^precision} bytes.
+ * <p>
+ * The relative standard error of the estimate is about {@code 1.04 / sqrt(2^precision)}, e.g. 0.8% for the
+ * {@link #DEFAULT_PRECISION default precision} of 14 with 16 KB of registers. Small cardinalities are estimated
+ * by the linear counting of the empty registers.
+ * <p>
+ * Items are hashed to 64 bits by their content: the integral numbers by the value, strings and byte arrays
+ * by MurmurHash3, enums by the names of the class and the constant, so the sketches of these keys are the same
+ * in every JVM and can be merged across nodes. Other items are hashed by their {@link Object#hashCode()}, which has
+ * 32 bits only: the items with equal hash codes are counted once, the count is underestimated by the collisions
+ * of hundreds of millions of keys, and the identity hash codes differ between JVMs. Use {@link #addLong(long)}
+ * with a 64-bit key or hash of such items.
+ * <p>
+ * Sketches of the same precision are merged by {@link #merge(HyperLogLog)}, so partial results of separate
+ * batches can be combined. The sketch is serializable and has the compact form of {@link #toByteArray()}.
+ * It is not thread-safe.
+ */
+public final class HyperLogLog implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MIN_PRECISION = 4;
+
+    public static final int MAX_PRECISION = 18;
+
+    public static final int DEFAULT_PRECISION = 14;
+
+    private final int precision;
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        checkPrecision(precision);
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    /**
+     * Restores the sketch from the form of {@link #toByteArray()}.
+     */
+    public static HyperLogLog fromByteArray(byte[] bytes) {
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("Bytes should not be empty");
+        }
+        int precision = bytes[0];
+        checkPrecision(precision);
+        if (bytes.length != (1 << precision) + 1) {
+            throw new IllegalArgumentException("Bytes length should be " + ((1 << precision) + 1) + ": " + bytes.length);
+        }
+        return new HyperLogLog(precision, Arrays.copyOfRange(bytes, 1, bytes.length));
+    }
+
+    public void add(Object item) {
+        addHash(Hashing.mix(Hashing.hash(item)));
+    }
+
+    /**
+     * Adds the 64-bit key or hash, the value equal to an integral number item is counted as the same key.
+     */
+    public void addLong(long value) {
+        addHash(Hashing.mix(value));
+    }
+
+    /**
+     * Adds the values of the other sketch, the sketches should have the same precision.
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Precision should be " + precision + ": " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public long estimate() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int emptyRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                emptyRegisters++;
+            }
+        }
+        double estimate = alpha(registerCount) * registerCount * registerCount / sum;
+        if (estimate <= 2.5 * registerCount && emptyRegisters > 0) {
+            estimate = registerCount * Math.log((double) registerCount / emptyRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Returns the precision followed by the registers.
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[registers.length + 1];
+        bytes[0] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 1, registers.length);
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HyperLogLog)) {
+            return false;
+        }
+        HyperLogLog other = (HyperLogLog) o;
+        return precision == other.precision && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * precision + Arrays.hashCode(registers);
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog{precision=" + precision + ", estimate=" + estimate() + "}";
+    }
+
+    /**
+     * The first {@code precision} bits of the hash select the register, the register keeps the maximal position
+     * of the first one bit in the rest of the hash.
+     */
+    private void addHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    private static double alpha(int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+
+    private static void checkPrecision(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision should be between " + MIN_PRECISION + " and "
+                    + MAX_PRECISION + ": " + precision);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * The unmodifiable list over the exactly sized array, it has no spare capacity and no modification counter.
+ * <p>
+ * The array is owned by the list: the callers pass a freshly created array and never write to it afterwards.
+ */
+final class ImmutableArrayList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableArrayList<Object> EMPTY = new ImmutableArrayList<>(new Object[0]);
+
+    private final Object[] items;
+
+    private ImmutableArrayList(Object[] items) {
+        this.items = items;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ImmutableArrayList<T> wrap(Object[] items) {
+        return items.length == 0 ? (ImmutableArrayList<T>) EMPTY : new ImmutableArrayList<>(items);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) items[index];
+    }
+
+    @Override
+    public int size() {
+        return items.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(items, items.length);
+    }
+
+    @Override
+    public int indexOf(Object item) {
+        for (int i = 0; i < items.length; i++) {
+            if (item == null ? items[i] == null : item.equals(items[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object item) {
+        return indexOf(item) >= 0;
+    }
+
+    private Object readResolve() {
+        return items.length == 0 ? EMPTY : this;
+    }
+}
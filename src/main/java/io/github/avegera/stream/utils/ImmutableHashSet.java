@@ -0,0 +1,181 @@
+package io.github.avegera.stream.utils;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The unmodifiable set over the open-addressing hash table, it keeps the items in a plain array without per-item nodes.
+ * <p>
+ * The table is a power of two at least twice as large as the set, collisions are resolved by the linear probing
+ * from the Fibonacci hash of the item. The {@code null} item is kept by the flag outside of the table.
+ * The iteration order is the table order.
+ * <p>
+ * The set is serialized as the plain array of its items and the table is rebuilt on deserialization,
+ * so the slots follow the hash codes of the deserializing JVM, e.g. of enums and identity-hashed items.
+ */
+final class ImmutableHashSet<T> extends AbstractSet<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private static final ImmutableHashSet<Object> EMPTY = new ImmutableHashSet<>(new Object[2], 0, false);
+
+    private final Object[] table;
+
+    private final int size;
+
+    private final boolean containsNull;
+
+    private ImmutableHashSet(Object[] table, int size, boolean containsNull) {
+        this.table = table;
+        this.size = size;
+        this.containsNull = containsNull;
+    }
+
+    /**
+     * Returns the set of the first {@code count} items, the duplicates are skipped.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ImmutableHashSet<T> copyOf(Object[] items, int count) {
+        if (count == 0) {
+            return (ImmutableHashSet<T>) EMPTY;
+        }
+        Object[] table = new Object[tableSize(count)];
+        int size = 0;
+        boolean containsNull = false;
+        for (int i = 0; i < count; i++) {
+            Object item = items[i];
+            if (item == null) {
+                if (!containsNull) {
+                    containsNull = true;
+                    size++;
+                }
+            } else if (insert(table, item)) {
+                size++;
+            }
+        }
+        int compactSize = tableSize(size);
+        if (compactSize < table.length) {
+            Object[] compact = new Object[compactSize];
+            for (Object item : table) {
+                if (item != null) {
+                    insert(compact, item);
+                }
+            }
+            table = compact;
+        }
+        return new ImmutableHashSet<>(table, size, containsNull);
+    }
+
+    @Override
+    public boolean contains(Object item) {
+        if (item == null) {
+            return containsNull;
+        }
+        int mask = table.length - 1;
+        for (int i = index(item, table.length); table[i] != null; i = (i + 1) & mask) {
+            if (item.equals(table[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private int position = nextOccupied(0);
+
+            private boolean nullReturned = !containsNull;
+
+            @Override
+            public boolean hasNext() {
+                return position < table.length || !nullReturned;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (position < table.length) {
+                    Object item = table[position];
+                    position = nextOccupied(position + 1);
+                    return (T) item;
+                }
+                if (!nullReturned) {
+                    nullReturned = true;
+                    return null;
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    private int nextOccupied(int position) {
+        while (position < table.length && table[position] == null) {
+            position++;
+        }
+        return position;
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(toArray());
+    }
+
+    private void readObject(ObjectInputStream input) throws InvalidObjectException {
+        throw new InvalidObjectException("Serialized form is required");
+    }
+
+    /**
+     * Returns the least power of two that is at least twice as large as the expected size.
+     */
+    private static int tableSize(int expectedSize) {
+        return expectedSize > MAX_TABLE_SIZE / 2 ? MAX_TABLE_SIZE : Integer.highestOneBit(2 * expectedSize - 1) << 1;
+    }
+
+    private static boolean insert(Object[] table, Object item) {
+        int mask = table.length - 1;
+        int i = index(item, table.length);
+        for (; table[i] != null; i = (i + 1) & mask) {
+            if (item.equals(table[i])) {
+                return false;
+            }
+        }
+        table[i] = item;
+        return true;
+    }
+
+    private static int index(Object item, int tableSize) {
+        return (item.hashCode() * GOLDEN_RATIO) >>> (Integer.numberOfLeadingZeros(tableSize) + 1);
+    }
+
+    /**
+     * The items of the set in the iteration order, the set is rebuilt from them on deserialization.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] items;
+
+        SerializedForm(Object[] items) {
+            this.items = items;
+        }
+
+        private Object readResolve() {
+            return copyOf(items, items.length);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The read-only index of the collection items by a primitive {@code int} key without boxing the keys.
+ * <p>
+ * The keys are kept in the open-addressing hash table as {@link IntSet} keeps the values, the table is sized
+ * for the collection once, so the index is never resized. The items are stored as {@link Lookup} stores them:
+ * {@link #get(int)} returns the first item of the key and {@link #getAll(int)} returns all of them.
+ */
+public final class IntLookup<T> {
+
+    private static final int MIN_TABLE_SIZE = 8;
+
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final int[] keys;
+
+    private final Object[] items;
+
+    private Object zeroItems;
+
+    private int size;
+
+    private IntLookup(int expectedSize) {
+        int tableSize = tableSize(expectedSize);
+        this.keys = new int[tableSize];
+        this.items = new Object[tableSize];
+    }
+
+    static <T> IntLookup<T> of(Collection<T> collection, ToIntFunction<T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        IntLookup<T> lookup = new IntLookup<>(Loops.size(collection));
+        Loops.forEach(collection, item -> lookup.put(keyExtractor.applyAsInt(item), item));
+        return lookup;
+    }
+
+    /**
+     * Returns the first item of the key, or null if there is no such item.
+     */
+    public T get(int key) {
+        return Lookup.first(itemsOf(key));
+    }
+
+    public Optional<T> find(int key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    /**
+     * Returns the unmodifiable list of the items of the key in the encounter order.
+     */
+    public List<T> getAll(int key) {
+        return Lookup.all(itemsOf(key));
+    }
+
+    public boolean containsKey(int key) {
+        return itemsOf(key) != null;
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IntLookup{keys=" + size + "}";
+    }
+
+    private Object itemsOf(int key) {
+        if (key == 0) {
+            return zeroItems;
+        }
+        int mask = keys.length - 1;
+        for (int i = index(key, keys.length); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return items[i];
+            }
+        }
+        return null;
+    }
+
+    private void put(int key, T item) {
+        if (key == 0) {
+            if (zeroItems == null) {
+                zeroItems = Lookup.wrap(item);
+                size++;
+            } else {
+                zeroItems = Lookup.append(zeroItems, item);
+            }
+            return;
+        }
+        int mask = keys.length - 1;
+        int i = index(key, keys.length);
+        for (; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                items[i] = Lookup.append(items[i], item);
+                return;
+            }
+        }
+        keys[i] = key;
+        items[i] = Lookup.wrap(item);
+        size++;
+    }
+
+    private static int tableSize(int expectedSize) {
+        long tableSize = Long.highestOneBit(Math.max(1L, 2L * expectedSize - 1)) << 1;
+        return (int) Math.min(MAX_TABLE_SIZE, Math.max(MIN_TABLE_SIZE, tableSize));
+    }
+
+    private static int index(int key, int tableSize) {
+        return (key * GOLDEN_RATIO) >>> (Integer.numberOfLeadingZeros(tableSize) + 1);
+    }
+}
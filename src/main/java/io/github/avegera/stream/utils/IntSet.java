@@ -0,0 +1,276 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The set of primitive {@code int} values over the open-addressing hash table without boxing and per-value nodes.
+ * <p>
+ * The table is a power of two at least twice as large as the set, collisions are resolved by the linear probing
+ * from the Fibonacci hash of the value. The free slots hold {@code 0}, so the {@code 0} value is kept by the flag.
+ * The iteration order is unspecified, the set is not thread-safe.
+ */
+public final class IntSet implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_TABLE_SIZE = 8;
+
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private int[] table;
+
+    private int occupied;
+
+    private boolean containsZero;
+
+    public IntSet() {
+        this(0);
+    }
+
+    public IntSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size should not be negative: " + expectedSize);
+        }
+        this.table = new int[tableSize(expectedSize)];
+    }
+
+    public static IntSet of(int... values) {
+        IntSet set = new IntSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(int value) {
+        if (value == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        if (!insert(table, value)) {
+            return false;
+        }
+        if (++occupied > table.length >>> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean addAll(IntSet other) {
+        boolean changed = other.containsZero && add(0);
+        for (int value : other.table) {
+            if (value != 0) {
+                changed |= add(value);
+            }
+        }
+        return changed;
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        for (int i = index(value, table.length); table[i] != 0; i = (i + 1) & mask) {
+            if (table[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the new set of the values of both sets, the larger set is copied and the smaller one is added to it.
+     */
+    public IntSet union(IntSet other) {
+        IntSet larger = size() >= other.size() ? this : other;
+        IntSet result = larger.copy();
+        result.addAll(larger == this ? other : this);
+        return result;
+    }
+
+    /**
+     * Returns the new set of the common values, the values of the smaller set are looked up in the larger one.
+     */
+    public IntSet intersection(IntSet other) {
+        IntSet smaller = size() <= other.size() ? this : other;
+        IntSet larger = smaller == this ? other : this;
+        IntSet result = new IntSet(smaller.size());
+        result.containsZero = smaller.containsZero && larger.containsZero;
+        for (int value : smaller.table) {
+            if (value != 0 && larger.contains(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return containsZero ? occupied + 1 : occupied;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (int value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            private boolean zeroReturned = !containsZero;
+
+            private int position = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return !zeroReturned || position < table.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!zeroReturned) {
+                    zeroReturned = true;
+                    return 0;
+                }
+                if (position >= table.length) {
+                    throw new NoSuchElementException();
+                }
+                int value = table[position];
+                position = nextOccupied(position + 1);
+                return value;
+            }
+        };
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), size(),
+                Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int i = containsZero ? 1 : 0;
+        for (int value : table) {
+            if (value != 0) {
+                result[i++] = value;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntSet)) {
+            return false;
+        }
+        IntSet other = (IntSet) o;
+        if (size() != other.size() || containsZero != other.containsZero) {
+            return false;
+        }
+        for (int value : table) {
+            if (value != 0 && !other.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the sum of the values, it is equal to the hash code of the {@link java.util.Set} of boxed values.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int value : table) {
+            hashCode += value;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) {
+            builder.append(iterator.nextInt());
+            if (iterator.hasNext()) {
+                builder.append(", ");
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    private IntSet copy() {
+        IntSet copy = new IntSet();
+        copy.table = table.clone();
+        copy.occupied = occupied;
+        copy.containsZero = containsZero;
+        return copy;
+    }
+
+    private int nextOccupied(int position) {
+        while (position < table.length && table[position] == 0) {
+            position++;
+        }
+        return position;
+    }
+
+    private void resize() {
+        if (table.length == MAX_TABLE_SIZE) {
+            throw new IllegalStateException("Set size exceeds the maximum: " + occupied);
+        }
+        int[] resized = new int[table.length << 1];
+        for (int value : table) {
+            if (value != 0) {
+                insert(resized, value);
+            }
+        }
+        table = resized;
+    }
+
+    private static int tableSize(int expectedSize) {
+        if (expectedSize > MAX_TABLE_SIZE / 2) {
+            return MAX_TABLE_SIZE;
+        }
+        return Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(1, 2 * expectedSize - 1)) << 1);
+    }
+
+    private static boolean insert(int[] table, int value) {
+        int mask = table.length - 1;
+        int i = index(value, table.length);
+        for (; table[i] != 0; i = (i + 1) & mask) {
+            if (table[i] == value) {
+                return false;
+            }
+        }
+        table[i] = value;
+        return true;
+    }
+
+    private static int index(int value, int tableSize) {
+        return (value * GOLDEN_RATIO) >>> (Integer.numberOfLeadingZeros(tableSize) + 1);
+    }
+}
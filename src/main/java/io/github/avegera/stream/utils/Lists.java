@@ -1,10 +1,14 @@
 package io.github.avegera.stream.utils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 import static io.github.avegera.stream.utils.Streams.safeStream;
@@ -13,6 +17,12 @@ import static java.util.stream.Collectors.toList;
 /**
  * The class contains laconic method-aliases for safety stream operations with collections in Java.
  * The result of class methods operations is {@link java.util.List}
+ * <p>
+ * The numeric projections {@code mapToInt}, {@code mapToLong} and {@code mapToDouble} return
+ * an exactly sized primitive array instead of the list of boxed values.
+ * <p>
+ * The {@code ...ToImmutable} methods return an unmodifiable list over the exactly sized array,
+ * it is the compact alternative for results that are only read afterwards.
  */
 public class Lists {
 
@@ -21,20 +31,23 @@ public class Lists {
     }
 
     public static <T> List<T> collect(Collection<T> collection) {
-        return safeStream(collection)
-                .collect(toList());
+        return Loops.collect(collection);
+    }
+
+    public static <T> List<T> collectToImmutable(Collection<T> collection) {
+        return ImmutableArrayList.wrap(Loops.toArray(collection));
     }
 
     public static <T> List<T> distinct(Collection<T> collection) {
-        return safeStream(collection)
-                .distinct()
-                .collect(toList());
+        return Loops.distinct(collection);
     }
 
     public static <T> List<T> filter(Collection<T> collection, Predicate<T> predicate) {
-        return safeStream(collection)
-                .filter(predicate)
-                .collect(toList());
+        return Loops.filterToList(collection, predicate);
+    }
+
+    public static <T> List<T> filterToImmutable(Collection<T> collection, Predicate<T> predicate) {
+        return ImmutableArrayList.wrap(Loops.filterToArray(collection, predicate));
     }
 
     public static <T, R> List<R> flatMap(Collection<T> collection, Function<T, ? extends Stream<R>> flatMapper) {
@@ -44,20 +57,50 @@ public class Lists {
     }
 
     public static <T, R> List<R> flatMapCollections(Collection<T> collection, Function<T, ? extends Collection<R>> flatMapper) {
-        return safeStream(collection)
-                .flatMap(e -> safeStream(flatMapper.apply(e)))
-                .collect(toList());
+        return Loops.flatMapCollections(collection, flatMapper, false, ArrayList::new);
     }
 
     public static <T, R> List<R> map(Collection<T> collection, Function<T, R> mapper) {
-        return safeStream(collection)
-                .map(mapper)
-                .collect(toList());
+        return Loops.map(collection, mapper, ArrayList::new);
+    }
+
+    public static <T, R> List<R> mapToImmutable(Collection<T> collection, Function<T, R> mapper) {
+        return ImmutableArrayList.wrap(Loops.mapToArray(collection, mapper));
+    }
+
+    public static <T> double[] mapToDouble(Collection<T> collection, ToDoubleFunction<T> mapper) {
+        return Loops.mapToDouble(collection, mapper);
+    }
+
+    public static <T> int[] mapToInt(Collection<T> collection, ToIntFunction<T> mapper) {
+        return Loops.mapToInt(collection, mapper);
+    }
+
+    public static <T> long[] mapToLong(Collection<T> collection, ToLongFunction<T> mapper) {
+        return Loops.mapToLong(collection, mapper);
     }
 
     public static <T> List<T> sort(Collection<T> collection, Comparator<T> comparator) {
-        return safeStream(collection)
-                .sorted(comparator)
-                .collect(toList());
+        return Loops.sort(collection, comparator);
+    }
+
+    public static <T, K extends Comparable<? super K>> List<T> sortBy(Collection<T> collection, Function<T, K> keyExtractor) {
+        return sortBy(collection, keyExtractor, Comparator.naturalOrder());
+    }
+
+    public static <T, K> List<T> sortBy(Collection<T> collection, Function<T, K> keyExtractor, Comparator<? super K> keyComparator) {
+        return Loops.sortBy(collection, keyExtractor, keyComparator, ArrayList::new);
+    }
+
+    public static <T> List<T> sortByInt(Collection<T> collection, ToIntFunction<T> keyExtractor) {
+        return Loops.sortByInt(collection, keyExtractor);
+    }
+
+    public static <T> List<T> sortByLong(Collection<T> collection, ToLongFunction<T> keyExtractor) {
+        return Loops.sortByLong(collection, keyExtractor);
+    }
+
+    public static <T> List<T> topN(Collection<T> collection, Comparator<T> comparator, int n) {
+        return Loops.topN(collection, comparator, n, false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,276 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The set of primitive {@code long} values over the open-addressing hash table without boxing and per-value nodes.
+ * <p>
+ * The table is a power of two at least twice as large as the set, collisions are resolved by the linear probing
+ * from the Fibonacci hash of the value. The free slots hold {@code 0}, so the {@code 0} value is kept by the flag.
+ * The iteration order is unspecified, the set is not thread-safe.
+ */
+public final class LongSet implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_TABLE_SIZE = 8;
+
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] table;
+
+    private int occupied;
+
+    private boolean containsZero;
+
+    public LongSet() {
+        this(0);
+    }
+
+    public LongSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size should not be negative: " + expectedSize);
+        }
+        this.table = new long[tableSize(expectedSize)];
+    }
+
+    public static LongSet of(long... values) {
+        LongSet set = new LongSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(long value) {
+        if (value == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        if (!insert(table, value)) {
+            return false;
+        }
+        if (++occupied > table.length >>> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean addAll(LongSet other) {
+        boolean changed = other.containsZero && add(0);
+        for (long value : other.table) {
+            if (value != 0) {
+                changed |= add(value);
+            }
+        }
+        return changed;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        for (int i = index(value, table.length); table[i] != 0; i = (i + 1) & mask) {
+            if (table[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the new set of the values of both sets, the larger set is copied and the smaller one is added to it.
+     */
+    public LongSet union(LongSet other) {
+        LongSet larger = size() >= other.size() ? this : other;
+        LongSet result = larger.copy();
+        result.addAll(larger == this ? other : this);
+        return result;
+    }
+
+    /**
+     * Returns the new set of the common values, the values of the smaller set are looked up in the larger one.
+     */
+    public LongSet intersection(LongSet other) {
+        LongSet smaller = size() <= other.size() ? this : other;
+        LongSet larger = smaller == this ? other : this;
+        LongSet result = new LongSet(smaller.size());
+        result.containsZero = smaller.containsZero && larger.containsZero;
+        for (long value : smaller.table) {
+            if (value != 0 && larger.contains(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return containsZero ? occupied + 1 : occupied;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+
+            private boolean zeroReturned = !containsZero;
+
+            private int position = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return !zeroReturned || position < table.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!zeroReturned) {
+                    zeroReturned = true;
+                    return 0;
+                }
+                if (position >= table.length) {
+                    throw new NoSuchElementException();
+                }
+                long value = table[position];
+                position = nextOccupied(position + 1);
+                return value;
+            }
+        };
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(Spliterators.spliterator(iterator(), size(),
+                Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size()];
+        int i = containsZero ? 1 : 0;
+        for (long value : table) {
+            if (value != 0) {
+                result[i++] = value;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongSet)) {
+            return false;
+        }
+        LongSet other = (LongSet) o;
+        if (size() != other.size() || containsZero != other.containsZero) {
+            return false;
+        }
+        for (long value : table) {
+            if (value != 0 && !other.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the sum of the hash codes of the values, it is equal to the hash code of the {@link java.util.Set} of boxed values.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (long value : table) {
+            hashCode += Long.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        PrimitiveIterator.OfLong iterator = iterator();
+        while (iterator.hasNext()) {
+            builder.append(iterator.nextLong());
+            if (iterator.hasNext()) {
+                builder.append(", ");
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    private LongSet copy() {
+        LongSet copy = new LongSet();
+        copy.table = table.clone();
+        copy.occupied = occupied;
+        copy.containsZero = containsZero;
+        return copy;
+    }
+
+    private int nextOccupied(int position) {
+        while (position < table.length && table[position] == 0) {
+            position++;
+        }
+        return position;
+    }
+
+    private void resize() {
+        if (table.length == MAX_TABLE_SIZE) {
+            throw new IllegalStateException("Set size exceeds the maximum: " + occupied);
+        }
+        long[] resized = new long[table.length << 1];
+        for (long value : table) {
+            if (value != 0) {
+                insert(resized, value);
+            }
+        }
+        table = resized;
+    }
+
+    private static int tableSize(int expectedSize) {
+        if (expectedSize > MAX_TABLE_SIZE / 2) {
+            return MAX_TABLE_SIZE;
+        }
+        return Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(1, 2 * expectedSize - 1)) << 1);
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int i = index(value, table.length);
+        for (; table[i] != 0; i = (i + 1) & mask) {
+            if (table[i] == value) {
+                return false;
+            }
+        }
+        table[i] = value;
+        return true;
+    }
+
+    private static int index(long value, int tableSize) {
+        return (int) ((value * GOLDEN_RATIO) >>> (Integer.numberOfLeadingZeros(tableSize) + 33));
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.avegera.stream.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.github.avegera.stream.utils.Loops.hashCapacity;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The read-only index of the collection items by a key, the item is found by the key in constant time.
+ * <p>
+ * The index is built in one pass into the hash map pre-sized for the collection. A key of a single item maps
+ * to the item itself, a key of several items maps to the list of them in the encounter order,
+ * so {@link #get(Object)} returns the first item of the key and {@link #getAll(Object)} returns all of them.
+ * <p>
+ * The index doesn't follow the later changes of the collection, see {@link Finders#indexLazily} for the index
+ * that is rebuilt when the collection is replaced or resized.
+ */
+public final class Lookup<K, T> {
+
+    private static final Object NULL_ITEM = new Object();
+
+    private final Map<K, Object> items;
+
+    private Lookup(Map<K, Object> items) {
+        this.items = items;
+    }
+
+    static <T, K> Lookup<K, T> of(Collection<T> collection, Function<T, K> keyExtractor) {
+        requireNonNull(keyExtractor);
+        Map<K, Object> items = new HashMap<>(hashCapacity(Loops.size(collection)));
+        Loops.forEach(collection, item -> items.merge(keyExtractor.apply(item), wrap(item), Lookup::append));
+        return new Lookup<>(items);
+    }
+
+    static <T, K> Supplier<Lookup<K, T>> lazy(Supplier<? extends Collection<T>> source, Function<T, K> keyExtractor) {
+        requireNonNull(source);
+        requireNonNull(keyExtractor);
+        return new LazyLookup<>(source, keyExtractor);
+    }
+
+    /**
+     * Returns the first item of the key, or null if there is no such item.
+     */
+    public T get(K key) {
+        return first(items.get(key));
+    }
+
+    public Optional<T> find(K key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    /**
+     * Returns the unmodifiable list of the items of the key in the encounter order.
+     */
+    public List<T> getAll(K key) {
+        return all(items.get(key));
+    }
+
+    public boolean containsKey(K key) {
+        return items.containsKey(key);
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "Lookup{keys=" + size() + "}";
+    }
+
+    /**
+     * Wraps the null item, so the null value of the table always means the missing key.
+     */
+    static Object wrap(Object item) {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    static Object append(Object existing, Object item) {
+        Group group = existing instanceof Group ? (Group) existing : new Group(unwrap(existing));
+        group.items.add(unwrap(item));
+        return group;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T first(Object value) {
+        return (T) (value instanceof Group ? ((Group) value).items.get(0) : unwrap(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> List<T> all(Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof Group) {
+            return Collections.unmodifiableList((List<T>) ((Group) value).items);
+        }
+        return Collections.singletonList((T) unwrap(value));
+    }
+
+    private static Object unwrap(Object value) {
+        return value == NULL_ITEM ? null : value;
+    }
+
+    /**
+     * The items of a key with several items in the encounter order.
+     */
+    private static final class Group {
+
+        private final List<Object> items = new ArrayList<>(4);
+
+        Group(Object first) {
+            items.add(first);
+        }
+    }
+
+    /**
+     * Rebuilds the index when the source returns another collection or the collection size changes.
+     */
+    private static final class LazyLookup<K, T> implements Supplier<Lookup<K, T>> {
+
+        private final Supplier<? extends Collection<T>> source;
+
+        private final Function<T, K> keyExtractor;
+
+        private volatile Snapshot<K, T> snapshot;
+
+        LazyLookup(Supplier<? extends Collection<T>> source, Function<T, K> keyExtractor) {
+            this.source = source;
+            this.keyExtractor = keyExtractor;
+        }
+
+        @Override
+        public Lookup<K, T> get() {
+            Collection<T> collection = source.get();
+            int size = Loops.size(collection);
+            Snapshot<K, T> current = snapshot;
+            if (current == null || current.collection != collection || current.size != size) {
+                current = new Snapshot<>(collection, size, of(collection, keyExtractor));
+                snapshot = current;
+            }
+            return current.lookup;
+        }
+    }
+
+    private static final class Snapshot<K, T> {
+
+        private final Collection<T> collection;
+
+        private final int size;
+
+        private final Lookup<K, T> lookup;
+
+        Snapshot(Collection<T> collection, int size, Lookup<K, T> lookup) {
+            this.collection = collection;
+            this.size = size;
+            this.lookup = lookup;
+        }
+    }
+}
@@ -0,0 +1,670 @@
+package io.github.avegera.stream.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The class contains loop-based implementations of the collection operations without Stream API pipelines.
+ * <p>
+ * The known size of the source collection is used to pre-size the result,
+ * {@link RandomAccess} lists are traversed by index without an iterator.
+ */
+final class Loops {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    private static final long[] EMPTY_LONG_ARRAY = new long[0];
+
+    private static final double[] EMPTY_DOUBLE_ARRAY = new double[0];
+
+    private Loops() {
+        //empty private constructor
+    }
+
+    static boolean isEmpty(Collection<?> collection) {
+        return collection == null || collection.isEmpty();
+    }
+
+    static int size(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+
+    static boolean isRandomAccessList(Collection<?> collection) {
+        return collection instanceof List && collection instanceof RandomAccess;
+    }
+
+    /**
+     * Returns the collection itself if it is a {@link RandomAccess} list, otherwise the array-backed copy of it.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> asRandomAccessList(Collection<T> collection) {
+        return isRandomAccessList(collection) ? (List<T>) collection : (List<T>) Arrays.asList(collection.toArray());
+    }
+
+    /**
+     * Returns the initial capacity of a hash table that holds the expected number of items without rehashing
+     * at the default load factor.
+     */
+    static int hashCapacity(int expectedSize) {
+        return expectedSize < 3 ? expectedSize + 1 : (int) (expectedSize / .75f + 1f);
+    }
+
+    static <T> List<T> collect(Collection<T> collection) {
+        return isEmpty(collection) ? new ArrayList<>() : new ArrayList<>(collection);
+    }
+
+    /**
+     * Adds all items to the target collection created by the expected size.
+     */
+    static <T, C extends Collection<T>> C collect(Collection<T> collection, IntFunction<C> targetFactory) {
+        C result = targetFactory.apply(size(collection));
+        if (!isEmpty(collection)) {
+            addAll(result, collection);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the array of the items, it is a copy unless the collection is {@code null} or empty.
+     */
+    static Object[] toArray(Collection<?> collection) {
+        return isEmpty(collection) ? EMPTY_ARRAY : collection.toArray();
+    }
+
+    /**
+     * Counts the items by the classifier into mutable single-cell counters, a key is boxed once per distinct key.
+     */
+    static <T, K> Map<K, long[]> countBy(Collection<T> collection, Function<T, K> classifier) {
+        requireNonNull(classifier);
+        Map<K, long[]> counts = new HashMap<>();
+        if (isEmpty(collection)) {
+            return counts;
+        }
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                increment(counts, classifier.apply(list.get(i)), 1);
+            }
+        } else {
+            for (T item : collection) {
+                increment(counts, classifier.apply(item), 1);
+            }
+        }
+        return counts;
+    }
+
+    static <K> void increment(Map<K, long[]> counts, K key, long delta) {
+        long[] counter = counts.get(key);
+        if (counter == null) {
+            counts.put(key, new long[]{delta});
+        } else {
+            counter[0] += delta;
+        }
+    }
+
+    static <K> Map<K, Long> toCounts(Map<K, long[]> counters) {
+        Map<K, Long> result = new HashMap<>(hashCapacity(counters.size()));
+        for (Map.Entry<K, long[]> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return result;
+    }
+
+    static <T> List<T> distinct(Collection<T> collection) {
+        return isEmpty(collection) ? new ArrayList<>() : new ArrayList<>(new LinkedHashSet<>(collection));
+    }
+
+    /**
+     * Adds the matched items to the target collection, which grows with them. The size of the source collection
+     * is only the upper bound of the result size, so it doesn't size the target.
+     */
+    static <T, C extends Collection<T>> C filter(Collection<T> collection, Predicate<T> predicate,
+                                                 Supplier<C> targetFactory) {
+        requireNonNull(predicate);
+        C result = targetFactory.get();
+        if (isEmpty(collection)) {
+            return result;
+        }
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                T item = list.get(i);
+                if (predicate.test(item)) {
+                    result.add(item);
+                }
+            }
+        } else {
+            for (T item : collection) {
+                if (predicate.test(item)) {
+                    result.add(item);
+                }
+            }
+        }
+        return result;
+    }
+
+    static <T> boolean anyMatch(Collection<T> collection, Predicate<T> predicate) {
+        requireNonNull(predicate);
+        if (isEmpty(collection)) {
+            return false;
+        }
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (predicate.test(list.get(i))) {
+                    return true;
+                }
+            }
+        } else {
+            for (T item : collection) {
+                if (predicate.test(item)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static <T> long countIf(Collection<T> collection, Predicate<T> predicate) {
+        requireNonNull(predicate);
+        if (isEmpty(collection)) {
+            return 0L;
+        }
+        long count = 0L;
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (predicate.test(list.get(i))) {
+                    count++;
+                }
+            }
+        } else {
+            for (T item : collection) {
+                if (predicate.test(item)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first matched item, the matched null item throws {@link NullPointerException}.
+     */
+    static <T> Optional<T> findFirst(Collection<T> collection, Predicate<T> predicate) {
+        requireNonNull(predicate);
+        if (isEmpty(collection)) {
+            return Optional.empty();
+        }
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                T item = list.get(i);
+                if (predicate.test(item)) {
+                    return Optional.of(item);
+                }
+            }
+        } else {
+            for (T item : collection) {
+                if (predicate.test(item)) {
+                    return Optional.of(item);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    static <T> void forEach(Collection<T> collection, Consumer<? super T> action) {
+        if (isEmpty(collection)) {
+            return;
+        }
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                action.accept(list.get(i));
+            }
+        } else {
+            for (T item : collection) {
+                action.accept(item);
+            }
+        }
+    }
+
+    /**
+     * Returns the exactly sized array of the matched items.
+     */
+    static <T> Object[] filterToArray(Collection<T> collection, Predicate<T> predicate) {
+        requireNonNull(predicate);
+        if (isEmpty(collection)) {
+            return EMPTY_ARRAY;
+        }
+        Matches matches = filterMatches(collection, predicate);
+        return matches.size == matches.items.length ? matches.items : Arrays.copyOf(matches.items, matches.size);
+    }
+
+    /**
+     * Returns the array list of the matched items sized exactly, the items are matched into a scratch buffer first,
+     * so the list doesn't grow and doesn't keep the unused capacity.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> filterToList(Collection<T> collection, Predicate<T> predicate) {
+        requireNonNull(predicate);
+        if (isEmpty(collection)) {
+            return new ArrayList<>();
+        }
+        Matches matches = filterMatches(collection, predicate);
+        List<T> result = new ArrayList<>(matches.size);
+        for (int i = 0; i < matches.size; i++) {
+            result.add((T) matches.items[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the items of the nested collections to the target collection. For a list the target is created
+     * by the total size of the nested collections, for a set it is created by the size of the largest one,
+     * as the nested collections may share their items and the total size may exceed the range of int.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R, C extends Collection<R>> C flatMapCollections(Collection<T> collection,
+                                                                Function<T, ? extends Collection<R>> flatMapper,
+                                                                boolean distinct, IntFunction<C> targetFactory) {
+        requireNonNull(flatMapper);
+        if (isEmpty(collection)) {
+            return targetFactory.apply(0);
+        }
+        Object[] mapped = new Object[collection.size()];
+        int count = 0;
+        long total = 0;
+        int largest = 0;
+        for (T item : collection) {
+            Collection<R> items = flatMapper.apply(item);
+            if (!isEmpty(items)) {
+                mapped[count++] = items;
+                total += items.size();
+                largest = Math.max(largest, items.size());
+            }
+        }
+        C result = targetFactory.apply(distinct ? largest : (int) Math.min(total, Integer.MAX_VALUE));
+        for (int i = 0; i < count; i++) {
+            addAll(result, (Collection<R>) mapped[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the mapped items to the target collection created by the size of the source collection.
+     */
+    static <T, R, C extends Collection<R>> C map(Collection<T> collection, Function<T, R> mapper,
+                                                 IntFunction<C> targetFactory) {
+        requireNonNull(mapper);
+        C result = targetFactory.apply(size(collection));
+        if (isEmpty(collection)) {
+            return result;
+        }
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                result.add(mapper.apply(list.get(i)));
+            }
+        } else {
+            for (T item : collection) {
+                result.add(mapper.apply(item));
+            }
+        }
+        return result;
+    }
+
+    static <T, R> Object[] mapToArray(Collection<T> collection, Function<T, R> mapper) {
+        requireNonNull(mapper);
+        if (isEmpty(collection)) {
+            return EMPTY_ARRAY;
+        }
+        Object[] result = new Object[collection.size()];
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mapper.apply(list.get(i));
+            }
+        } else {
+            int i = 0;
+            for (T item : collection) {
+                result[i++] = mapper.apply(item);
+            }
+        }
+        return result;
+    }
+
+    static <T> int[] mapToInt(Collection<T> collection, ToIntFunction<T> mapper) {
+        requireNonNull(mapper);
+        if (isEmpty(collection)) {
+            return EMPTY_INT_ARRAY;
+        }
+        int[] result = new int[collection.size()];
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mapper.applyAsInt(list.get(i));
+            }
+        } else {
+            int i = 0;
+            for (T item : collection) {
+                result[i++] = mapper.applyAsInt(item);
+            }
+        }
+        return result;
+    }
+
+    static <T> long[] mapToLong(Collection<T> collection, ToLongFunction<T> mapper) {
+        requireNonNull(mapper);
+        if (isEmpty(collection)) {
+            return EMPTY_LONG_ARRAY;
+        }
+        long[] result = new long[collection.size()];
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mapper.applyAsLong(list.get(i));
+            }
+        } else {
+            int i = 0;
+            for (T item : collection) {
+                result[i++] = mapper.applyAsLong(item);
+            }
+        }
+        return result;
+    }
+
+    static <T> double[] mapToDouble(Collection<T> collection, ToDoubleFunction<T> mapper) {
+        requireNonNull(mapper);
+        if (isEmpty(collection)) {
+            return EMPTY_DOUBLE_ARRAY;
+        }
+        double[] result = new double[collection.size()];
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mapper.applyAsDouble(list.get(i));
+            }
+        } else {
+            int i = 0;
+            for (T item : collection) {
+                result[i++] = mapper.applyAsDouble(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first of the least items.
+     */
+    static <T> Optional<T> min(Collection<T> collection, Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        if (isEmpty(collection)) {
+            return Optional.empty();
+        }
+        Iterator<T> iterator = collection.iterator();
+        T result = iterator.next();
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            if (comparator.compare(item, result) < 0) {
+                result = item;
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Sums the values to the long, so the sum of int values doesn't overflow.
+     */
+    static <T> long sumInt(Collection<T> collection, ToIntFunction<T> mapper) {
+        requireNonNull(mapper);
+        if (isEmpty(collection)) {
+            return 0L;
+        }
+        long sum = 0L;
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                sum += mapper.applyAsInt(list.get(i));
+            }
+        } else {
+            for (T item : collection) {
+                sum += mapper.applyAsInt(item);
+            }
+        }
+        return sum;
+    }
+
+    static <T> long sumLong(Collection<T> collection, ToLongFunction<T> mapper) {
+        requireNonNull(mapper);
+        if (isEmpty(collection)) {
+            return 0L;
+        }
+        long sum = 0L;
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                sum += mapper.applyAsLong(list.get(i));
+            }
+        } else {
+            for (T item : collection) {
+                sum += mapper.applyAsLong(item);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the values by the Neumaier compensated summation, see {@link NumericStats#getSum()}.
+     */
+    static <T> double sumDouble(Collection<T> collection, ToDoubleFunction<T> mapper) {
+        requireNonNull(mapper);
+        if (isEmpty(collection)) {
+            return 0.0;
+        }
+        double sum = 0.0;
+        double compensation = 0.0;
+        double simpleSum = 0.0;
+        for (T item : collection) {
+            double value = mapper.applyAsDouble(item);
+            simpleSum += value;
+            double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+            sum = total;
+        }
+        double result = sum + compensation;
+        return Double.isNaN(result) && Double.isInfinite(simpleSum) ? simpleSum : result;
+    }
+
+    /**
+     * Sorts the single copy of the collection in place.
+     */
+    static <T> List<T> sort(Collection<T> collection, Comparator<T> comparator) {
+        requireNonNull(comparator);
+        if (isEmpty(collection)) {
+            return new ArrayList<>();
+        }
+        List<T> result = new ArrayList<>(collection);
+        result.sort(comparator);
+        return result;
+    }
+
+    /**
+     * Returns the first {@code n} items of the stable sort without sorting the whole collection.
+     */
+    static <T> List<T> topN(Collection<T> collection, Comparator<T> comparator, int n, boolean distinct) {
+        requireNonNull(comparator);
+        checkLimit(n);
+        if (isEmpty(collection) || n == 0) {
+            return new ArrayList<>();
+        }
+        if (n >= collection.size()) {
+            return sort(collection, comparator);
+        }
+        BoundedHeap<T> heap = new BoundedHeap<>(comparator, n, distinct);
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                heap.offer(list.get(i), i);
+            }
+        } else {
+            int index = 0;
+            for (T item : collection) {
+                heap.offer(item, index++);
+            }
+        }
+        return heap.toSortedList();
+    }
+
+    /**
+     * Extracts the key of each item exactly once and adds the items to the target collection in the key order.
+     * The sort is stable.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, K, C extends Collection<T>> C sortBy(Collection<T> collection, Function<T, K> keyExtractor,
+                                                    Comparator<? super K> keyComparator, IntFunction<C> targetFactory) {
+        requireNonNull(keyExtractor);
+        requireNonNull(keyComparator);
+        if (isEmpty(collection)) {
+            return targetFactory.apply(0);
+        }
+        Object[] items = collection.toArray();
+        Object[] keys = new Object[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = keyExtractor.apply((T) items[i]);
+        }
+        return reorder(items, Sorting.order(keys, keyComparator), targetFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> List<T> sortByInt(Collection<T> collection, ToIntFunction<T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        if (isEmpty(collection)) {
+            return new ArrayList<>();
+        }
+        Object[] items = collection.toArray();
+        int[] keys = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = keyExtractor.applyAsInt((T) items[i]);
+        }
+        return reorder(items, Sorting.order(keys), ArrayList::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> List<T> sortByLong(Collection<T> collection, ToLongFunction<T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        if (isEmpty(collection)) {
+            return new ArrayList<>();
+        }
+        Object[] items = collection.toArray();
+        long[] keys = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = keyExtractor.applyAsLong((T) items[i]);
+        }
+        return reorder(items, Sorting.order(keys), ArrayList::new);
+    }
+
+    static void checkLimit(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("N should not be negative: " + n);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, C extends Collection<T>> C reorder(Object[] items, int[] order, IntFunction<C> targetFactory) {
+        C result = targetFactory.apply(items.length);
+        for (int index : order) {
+            result.add((T) items[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Unlike {@link Collection#addAll(Collection)} the method doesn't create an intermediate copy of the added items.
+     */
+    private static <T> void addAll(Collection<T> result, Collection<T> items) {
+        if (isRandomAccessList(items)) {
+            List<T> list = (List<T>) items;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                result.add(list.get(i));
+            }
+        } else {
+            for (T item : items) {
+                result.add(item);
+            }
+        }
+    }
+
+    /**
+     * Collects the matched items to the buffer, which starts small and grows twice up to the collection size,
+     * so a selective predicate doesn't allocate the array of the whole collection.
+     */
+    private static <T> Matches filterMatches(Collection<T> collection, Predicate<T> predicate) {
+        Matches matches = new Matches(collection.size());
+        if (isRandomAccessList(collection)) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                T item = list.get(i);
+                if (predicate.test(item)) {
+                    matches.add(item);
+                }
+            }
+        } else {
+            for (T item : collection) {
+                if (predicate.test(item)) {
+                    matches.add(item);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static final class Matches {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int maxSize;
+
+        private Object[] items;
+
+        private int size;
+
+        private Matches(int maxSize) {
+            this.maxSize = maxSize;
+            this.items = new Object[Math.min(maxSize, INITIAL_CAPACITY)];
+        }
+
+        private void add(Object item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, (int) Math.min(2L * size, maxSize));
+            }
+            items[size++] = item;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The outcome of several predicates over one collection: whether any, all or none of the items match each predicate.
+ * <p>
+ * The predicates are evaluated in one pass over the collection. A predicate is decided as soon as it has matched
+ * one item and hasn't matched another one, it isn't evaluated for the rest of the items,
+ * and the pass stops when all the predicates are decided.
+ * The outcome of the empty collection is the same as {@link Matchers} gives: no predicate matches any item,
+ * and every predicate matches all of them.
+ */
+public final class MatchResult implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int size;
+
+    private final BitSet matched;
+
+    private final BitSet failed;
+
+    private MatchResult(int size) {
+        this.size = size;
+        this.matched = new BitSet(size);
+        this.failed = new BitSet(size);
+    }
+
+    static <T> MatchResult evaluate(Collection<T> collection, List<Predicate<T>> predicates) {
+        for (Predicate<T> predicate : predicates) {
+            requireNonNull(predicate);
+        }
+        MatchResult result = new MatchResult(predicates.size());
+        if (!predicates.isEmpty()) {
+            Loops.anyMatch(collection, new Evaluation<>(result, predicates));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of the evaluated predicates.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean anyMatch(int index) {
+        return matched.get(checkIndex(index));
+    }
+
+    public boolean allMatch(int index) {
+        return !failed.get(checkIndex(index));
+    }
+
+    public boolean noneMatch(int index) {
+        return !matched.get(checkIndex(index));
+    }
+
+    /**
+     * Returns whether every predicate matches all the items.
+     */
+    public boolean allMatch() {
+        return failed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("MatchResult[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(allMatch(i) ? "all" : anyMatch(i) ? "any" : "none");
+        }
+        return builder.append(']').toString();
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index should be between 0 and " + (size - 1) + ": " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Evaluates the undecided predicates for the item and returns whether all the predicates are decided.
+     */
+    private static final class Evaluation<T> implements Predicate<T> {
+
+        private final MatchResult result;
+
+        private final List<Predicate<T>> predicates;
+
+        private final int[] undecided;
+
+        private int undecidedCount;
+
+        Evaluation(MatchResult result, List<Predicate<T>> predicates) {
+            this.result = result;
+            this.predicates = predicates;
+            this.undecided = new int[predicates.size()];
+            for (int i = 0; i < undecided.length; i++) {
+                undecided[i] = i;
+            }
+            this.undecidedCount = undecided.length;
+        }
+
+        @Override
+        public boolean test(T item) {
+            int i = 0;
+            while (i < undecidedCount) {
+                int index = undecided[i];
+                if (predicates.get(index).test(item)) {
+                    result.matched.set(index);
+                } else {
+                    result.failed.set(index);
+                }
+                if (result.matched.get(index) && result.failed.get(index)) {
+                    undecided[i] = undecided[--undecidedCount];
+                } else {
+                    i++;
+                }
+            }
+            return undecidedCount == 0;
+        }
+    }
+}
@@ -1,13 +1,26 @@
 package io.github.avegera.stream.utils;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static io.github.avegera.stream.utils.Loops.isEmpty;
 import static io.github.avegera.stream.utils.Streams.safeStream;
+import static java.util.Objects.requireNonNull;
 
 /**
  * The class contains laconic method-aliases for safely performing search operations in Java-collections.
- * The result of the class methods execution is a boolean value.
+ * The methods return whether the items match, {@code evaluate} returns the {@link MatchResult} of several predicates.
+ * <p>
+ * {@code containsAny}, {@code containsAll} and {@code anyMatchIn} pick the lookup side by the input types and sizes:
+ * a {@link java.util.Set} is looked up directly, a small collection is searched by its own {@code contains},
+ * and a larger one is hashed once, so the check takes {@code O(n + m)} instead of {@code O(n * m)}.
+ * A null collection of values is empty: it is contained in any collection and doesn't match any item.
+ * <p>
+ * {@code evaluate} checks several predicates in one pass and returns the {@link MatchResult} of their any, all
+ * and none outcomes, the pass stops as soon as every outcome is known.
  */
 public class Matchers {
 
@@ -25,6 +38,32 @@ public class Matchers {
                 .anyMatch(predicate);
     }
 
+    public static <T, K> boolean anyMatchIn(Collection<T> collection, Function<T, K> keyExtractor, Collection<?> values) {
+        requireNonNull(keyExtractor);
+        if (isEmpty(values)) {
+            return false;
+        }
+        Collection<?> lookup = SetAlgebra.lookup(values);
+        return Loops.anyMatch(collection, item -> lookup.contains(keyExtractor.apply(item)));
+    }
+
+    public static <T> boolean containsAll(Collection<T> collection, Collection<?> values) {
+        return SetAlgebra.containsAll(collection, values);
+    }
+
+    public static <T> boolean containsAny(Collection<T> collection, Collection<?> values) {
+        return SetAlgebra.intersects(collection, values);
+    }
+
+    @SafeVarargs
+    public static <T> MatchResult evaluate(Collection<T> collection, Predicate<T>... predicates) {
+        List<Predicate<T>> list = new ArrayList<>(predicates.length);
+        for (Predicate<T> predicate : predicates) {
+            list.add(predicate);
+        }
+        return MatchResult.evaluate(collection, list);
+    }
+
     public static <T> boolean noneMatch(Collection<T> collection, Predicate<T> predicate) {
         return safeStream(collection)
                 .noneMatch(predicate);
@@ -0,0 +1,134 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The one-pass statistics of double values: count, sum, min, max, mean and variance.
+ * <p>
+ * The sum is compensated by the Neumaier summation, so it doesn't lose the small values added to a large sum.
+ * The mean and the variance are updated by the Welford algorithm, which doesn't subtract large close numbers.
+ * The statistics of separate parts are joined by {@link #combine(NumericStats)}, e.g. by the parallel aliases.
+ * <p>
+ * The empty statistics have the zero sum, mean and variance, the positive infinite min and the negative infinite max,
+ * as {@link java.util.DoubleSummaryStatistics} has. The class is not thread-safe.
+ */
+public final class NumericStats implements DoubleConsumer, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long count;
+
+    private double sum;
+
+    private double compensation;
+
+    private double simpleSum;
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    private double mean;
+
+    private double squaredDeviations;
+
+    @Override
+    public void accept(double value) {
+        count++;
+        addToSum(value);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+    }
+
+    /**
+     * Adds the values of the other statistics by the pairwise update of Chan et al.
+     */
+    public NumericStats combine(NumericStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            copy(other);
+            return this;
+        }
+        long combinedCount = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / combinedCount;
+        squaredDeviations += other.squaredDeviations + delta * delta * count * other.count / combinedCount;
+        count = combinedCount;
+        double combinedSimpleSum = simpleSum + other.simpleSum;
+        addToSum(other.sum);
+        addToSum(other.compensation);
+        simpleSum = combinedSimpleSum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the compensated sum, or the simple sum if the values overflow to infinity.
+     */
+    public double getSum() {
+        double result = sum + compensation;
+        return Double.isNaN(result) && Double.isInfinite(simpleSum) ? simpleSum : result;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the population variance, i.e. the mean of the squared deviations from the mean.
+     */
+    public double getVariance() {
+        return count == 0 ? 0.0 : squaredDeviations / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    @Override
+    public String toString() {
+        return "NumericStats{count=" + count + ", sum=" + getSum() + ", min=" + min + ", max=" + max
+                + ", mean=" + mean + ", variance=" + getVariance() + "}";
+    }
+
+    private void addToSum(double value) {
+        simpleSum += value;
+        double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+        sum = total;
+    }
+
+    private void copy(NumericStats other) {
+        count = other.count;
+        sum = other.sum;
+        compensation = other.compensation;
+        simpleSum = other.simpleSum;
+        min = other.min;
+        max = other.max;
+        mean = other.mean;
+        squaredDeviations = other.squaredDeviations;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import static io.github.avegera.stream.utils.Loops.size;
+
+/**
+ * The class contains laconic method-aliases for parallel count operations with large collections in Java.
+ * The result of the class methods execution is the same as {@link Counters} gives.
+ * <p>
+ * Each chunk of the collection is counted into its own counter, map or statistics and the partial results are merged,
+ * so the threads don't contend on a shared accumulator.
+ * Collections smaller than the {@link ParallelOptions#getThreshold() threshold} are processed by {@link Counters}
+ * on the caller thread.
+ */
+public class ParallelCounters {
+
+    private ParallelCounters() {
+        //empty private constructor
+    }
+
+    public static <T, K> Map<K, Long> countBy(Collection<T> collection, Function<T, K> classifier) {
+        return countBy(collection, classifier, ParallelOptions.defaults());
+    }
+
+    public static <T, K> Map<K, Long> countBy(Collection<T> collection, Function<T, K> classifier, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Counters.countBy(collection, classifier);
+        }
+        return Loops.toCounts(ParallelTasks.countBy(collection, classifier, options));
+    }
+
+    public static <T> long countIf(Collection<T> collection, Predicate<T> predicate) {
+        return countIf(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> long countIf(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Counters.countIf(collection, predicate);
+        }
+        return ParallelTasks.countIf(collection, predicate, options);
+    }
+
+    public static <T> NumericStats stats(Collection<T> collection, ToDoubleFunction<T> mapper) {
+        return stats(collection, mapper, ParallelOptions.defaults());
+    }
+
+    public static <T> NumericStats stats(Collection<T> collection, ToDoubleFunction<T> mapper, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Counters.stats(collection, mapper);
+        }
+        return ParallelTasks.stats(collection, mapper, options);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.Loops.asRandomAccessList;
+import static io.github.avegera.stream.utils.Loops.size;
+
+/**
+ * The class contains laconic method-aliases for parallel search operations with large collections in Java.
+ * <p>
+ * The chunks of the collection are searched in parallel and the first match cancels the search of the other chunks,
+ * so the found item is any matched item, not necessarily the first one.
+ * Collections smaller than the {@link ParallelOptions#getThreshold() threshold} are searched by {@link Finders}
+ * on the caller thread.
+ */
+public class ParallelFinders {
+
+    private ParallelFinders() {
+        //empty private constructor
+    }
+
+    public static <T> Optional<T> findAny(Collection<T> collection, Predicate<T> predicate) {
+        return findAny(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> Optional<T> findAny(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Finders.findAny(collection, predicate);
+        }
+        List<T> items = asRandomAccessList(collection);
+        int index = ParallelTasks.indexOfAny(items, predicate, options);
+        return index < 0 ? Optional.empty() : Optional.of(items.get(index));
+    }
+
+    public static <T> T findAnyOrDefault(Collection<T> collection, Predicate<T> predicate, T defaultValue) {
+        return findAnyOrDefault(collection, predicate, defaultValue, ParallelOptions.defaults());
+    }
+
+    public static <T> T findAnyOrDefault(Collection<T> collection, Predicate<T> predicate, T defaultValue,
+                                         ParallelOptions options) {
+        return findAny(collection, predicate, options)
+                .orElse(defaultValue);
+    }
+
+    public static <T> T findAnyOrNull(Collection<T> collection, Predicate<T> predicate) {
+        return findAnyOrNull(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> T findAnyOrNull(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        return findAny(collection, predicate, options)
+                .orElse(null);
+    }
+}
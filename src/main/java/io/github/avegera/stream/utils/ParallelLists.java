@@ -0,0 +1,104 @@
+package io.github.avegera.stream.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.Loops.asRandomAccessList;
+import static io.github.avegera.stream.utils.Loops.size;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The class contains laconic method-aliases for parallel operations with large collections in Java.
+ * The result of class methods operations is {@link java.util.List} in the same encounter order as {@link Lists} gives.
+ * <p>
+ * Collections smaller than the {@link ParallelOptions#getThreshold() threshold} are processed by {@link Lists}
+ * on the caller thread.
+ * <p>
+ * {@code map} sizes the result list up front and the chunks set the mapped values at their own indexes,
+ * so the values are not copied again after the parallel pass.
+ */
+public class ParallelLists {
+
+    private ParallelLists() {
+        //empty private constructor
+    }
+
+    public static <T> List<T> filter(Collection<T> collection, Predicate<T> predicate) {
+        return filter(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> List<T> filter(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Lists.filter(collection, predicate);
+        }
+        requireNonNull(predicate);
+        List<T> items = asRandomAccessList(collection);
+        boolean[] matched = new boolean[items.size()];
+        int count = ParallelTasks.invoke(options, matched.length, (from, to) -> {
+            int matchedCount = 0;
+            for (int i = from; i < to; i++) {
+                if (predicate.test(items.get(i))) {
+                    matched[i] = true;
+                    matchedCount++;
+                }
+            }
+            return matchedCount;
+        }, Integer::sum);
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i]) {
+                result.add(items.get(i));
+            }
+        }
+        return result;
+    }
+
+    public static <T, R> List<R> map(Collection<T> collection, Function<T, R> mapper) {
+        return map(collection, mapper, ParallelOptions.defaults());
+    }
+
+    public static <T, R> List<R> map(Collection<T> collection, Function<T, R> mapper, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Lists.map(collection, mapper);
+        }
+        requireNonNull(mapper);
+        List<T> items = asRandomAccessList(collection);
+        List<R> result = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            result.add(null);
+        }
+        ParallelTasks.run(options, items.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result.set(i, mapper.apply(items.get(i)));
+            }
+        });
+        return result;
+    }
+
+    public static <T> List<T> sort(Collection<T> collection, Comparator<T> comparator) {
+        return sort(collection, comparator, ParallelOptions.defaults());
+    }
+
+    public static <T> List<T> sort(Collection<T> collection, Comparator<T> comparator, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Lists.sort(collection, comparator);
+        }
+        return new ArrayList<>(Arrays.asList(ParallelTasks.sort(collection, comparator, options)));
+    }
+
+    public static <T> List<T> topN(Collection<T> collection, Comparator<T> comparator, int n) {
+        return topN(collection, comparator, n, ParallelOptions.defaults());
+    }
+
+    public static <T> List<T> topN(Collection<T> collection, Comparator<T> comparator, int n, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Lists.topN(collection, comparator, n);
+        }
+        return ParallelTasks.topN(collection, comparator, n, false, options);
+    }
+}
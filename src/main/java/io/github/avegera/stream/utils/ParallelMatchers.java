@@ -0,0 +1,58 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.Loops.asRandomAccessList;
+import static io.github.avegera.stream.utils.Loops.size;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The class contains laconic method-aliases for parallel match operations with large collections in Java.
+ * The result of the class methods execution is the same as {@link Matchers} gives.
+ * <p>
+ * The chunks of the collection are tested in parallel and share the cancellation flag: the first item that decides
+ * the result, i.e. the matched one for {@code anyMatch} and {@code noneMatch} or the not matched one for
+ * {@code allMatch}, stops the other chunks. Collections smaller than the
+ * {@link ParallelOptions#getThreshold() threshold} are tested by {@link Matchers} on the caller thread.
+ */
+public class ParallelMatchers {
+
+    private ParallelMatchers() {
+        //empty private constructor
+    }
+
+    public static <T> boolean allMatch(Collection<T> collection, Predicate<T> predicate) {
+        return allMatch(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> boolean allMatch(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Matchers.allMatch(collection, predicate);
+        }
+        requireNonNull(predicate);
+        return ParallelTasks.indexOfAny(asRandomAccessList(collection), predicate.negate(), options) < 0;
+    }
+
+    public static <T> boolean anyMatch(Collection<T> collection, Predicate<T> predicate) {
+        return anyMatch(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> boolean anyMatch(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Matchers.anyMatch(collection, predicate);
+        }
+        return ParallelTasks.indexOfAny(asRandomAccessList(collection), predicate, options) >= 0;
+    }
+
+    public static <T> boolean noneMatch(Collection<T> collection, Predicate<T> predicate) {
+        return noneMatch(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> boolean noneMatch(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Matchers.noneMatch(collection, predicate);
+        }
+        return ParallelTasks.indexOfAny(asRandomAccessList(collection), predicate, options) < 0;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.avegera.stream.utils;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The options of the parallel method-aliases: the size threshold and the pool of the parallel execution.
+ * <p>
+ * Collections smaller than the threshold are processed sequentially on the caller thread,
+ * so small inputs don't pay for forking. The options are immutable, {@link #threshold(int)}
+ * and {@link #pool(ForkJoinPool)} return a copy with the changed value.
+ */
+public final class ParallelOptions {
+
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    private static final ParallelOptions DEFAULTS = new ParallelOptions(DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+
+    private final int threshold;
+
+    private final ForkJoinPool pool;
+
+    private ParallelOptions(int threshold, ForkJoinPool pool) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold should not be negative: " + threshold);
+        }
+        this.threshold = threshold;
+        this.pool = requireNonNull(pool);
+    }
+
+    /**
+     * Returns the options with the {@link #DEFAULT_THRESHOLD} and the {@link ForkJoinPool#commonPool()}.
+     */
+    public static ParallelOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static ParallelOptions of(int threshold, ForkJoinPool pool) {
+        return new ParallelOptions(threshold, pool);
+    }
+
+    public ParallelOptions threshold(int threshold) {
+        return new ParallelOptions(threshold, pool);
+    }
+
+    public ParallelOptions pool(ForkJoinPool pool) {
+        return new ParallelOptions(threshold, pool);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    boolean isParallel(int size) {
+        return size >= threshold && size > 1 && pool.getParallelism() > 1;
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelOptions{threshold=" + threshold + ", parallelism=" + pool.getParallelism() + "}";
+    }
+}
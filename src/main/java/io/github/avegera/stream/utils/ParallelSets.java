@@ -0,0 +1,108 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.Loops.asRandomAccessList;
+import static io.github.avegera.stream.utils.Loops.hashCapacity;
+import static io.github.avegera.stream.utils.Loops.size;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The class contains laconic method-aliases for parallel operations with large collections in Java.
+ * The result of class methods operations is {@link java.util.Set}
+ * <p>
+ * Collections smaller than the {@link ParallelOptions#getThreshold() threshold} are processed by {@link Sets}
+ * on the caller thread.
+ */
+public class ParallelSets {
+
+    private ParallelSets() {
+        //empty private constructor
+    }
+
+    public static <T> Set<T> filterToSet(Collection<T> collection, Predicate<T> predicate) {
+        return filterToSet(collection, predicate, ParallelOptions.defaults());
+    }
+
+    public static <T> Set<T> filterToSet(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Sets.filterToSet(collection, predicate);
+        }
+        requireNonNull(predicate);
+        List<T> items = asRandomAccessList(collection);
+        return ParallelTasks.invoke(options, items.size(), (from, to) -> {
+            Set<T> result = new HashSet<>();
+            for (int i = from; i < to; i++) {
+                T item = items.get(i);
+                if (predicate.test(item)) {
+                    result.add(item);
+                }
+            }
+            return result;
+        }, ParallelSets::union);
+    }
+
+    public static <T, R> Set<R> mapToSet(Collection<T> collection, Function<T, R> mapper) {
+        return mapToSet(collection, mapper, ParallelOptions.defaults());
+    }
+
+    public static <T, R> Set<R> mapToSet(Collection<T> collection, Function<T, R> mapper, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Sets.mapToSet(collection, mapper);
+        }
+        requireNonNull(mapper);
+        List<T> items = asRandomAccessList(collection);
+        return ParallelTasks.invoke(options, items.size(), (from, to) -> {
+            Set<R> result = new HashSet<>(hashCapacity(to - from));
+            for (int i = from; i < to; i++) {
+                result.add(mapper.apply(items.get(i)));
+            }
+            return result;
+        }, ParallelSets::union);
+    }
+
+    public static <T> Set<T> sortToSet(Collection<T> collection, Comparator<T> comparator) {
+        return sortToSet(collection, comparator, ParallelOptions.defaults());
+    }
+
+    public static <T> Set<T> sortToSet(Collection<T> collection, Comparator<T> comparator, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Sets.sortToSet(collection, comparator);
+        }
+        T[] sorted = ParallelTasks.sort(collection, comparator, options);
+        Set<T> result = new LinkedHashSet<>(hashCapacity(sorted.length));
+        Collections.addAll(result, sorted);
+        return result;
+    }
+
+    public static <T> Set<T> topNToSet(Collection<T> collection, Comparator<T> comparator, int n) {
+        return topNToSet(collection, comparator, n, ParallelOptions.defaults());
+    }
+
+    public static <T> Set<T> topNToSet(Collection<T> collection, Comparator<T> comparator, int n, ParallelOptions options) {
+        if (!options.isParallel(size(collection))) {
+            return Sets.topNToSet(collection, comparator, n);
+        }
+        return new LinkedHashSet<>(ParallelTasks.topN(collection, comparator, n, true, options));
+    }
+
+    /**
+     * Adds the items of the smaller set to the larger one.
+     */
+    private static <T> Set<T> union(Set<T> left, Set<T> right) {
+        if (left.size() < right.size()) {
+            right.addAll(left);
+            return right;
+        }
+        left.addAll(right);
+        return left;
+    }
+}
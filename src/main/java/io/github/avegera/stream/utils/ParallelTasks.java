@@ -0,0 +1,202 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import static io.github.avegera.stream.utils.Loops.asRandomAccessList;
+import static io.github.avegera.stream.utils.Loops.checkLimit;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The class contains the fork/join execution of the parallel method-aliases.
+ * <p>
+ * The index range of the input is split in halves down to chunks of about {@code size / (parallelism * 4)} items,
+ * the partial results are combined from left to right, so the combiner sees them in the encounter order.
+ */
+final class ParallelTasks {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelTasks() {
+        //empty private constructor
+    }
+
+    /**
+     * The computation of a partial result over the index range {@code [from, to)}.
+     */
+    @FunctionalInterface
+    interface RangeTask<A> {
+
+        A compute(int from, int to);
+    }
+
+    /**
+     * The side effect over the index range {@code [from, to)}, e.g. writing to the distinct cells of a shared array.
+     */
+    @FunctionalInterface
+    interface RangeAction {
+
+        void run(int from, int to);
+    }
+
+    static <A> A invoke(ParallelOptions options, int size, RangeTask<A> task, BinaryOperator<A> combiner) {
+        ForkJoinPool pool = options.getPool();
+        int chunkSize = Math.max(1, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        return pool.invoke(new RangeSplitter<>(task, combiner, chunkSize, 0, size));
+    }
+
+    static void run(ParallelOptions options, int size, RangeAction action) {
+        invoke(options, size, (from, to) -> {
+            action.run(from, to);
+            return null;
+        }, (left, right) -> null);
+    }
+
+    /**
+     * Copies the collection to an array and sorts it by {@link Arrays#parallelSort(Object[], Comparator)}
+     * in the pool of the options: the sort forks its subtasks to the pool it is invoked from.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T[] sort(Collection<T> collection, Comparator<T> comparator, ParallelOptions options) {
+        requireNonNull(comparator);
+        T[] array = (T[]) collection.toArray();
+        options.getPool().invoke(ForkJoinTask.adapt(() -> Arrays.parallelSort(array, comparator)));
+        return array;
+    }
+
+    /**
+     * Counts the items of each chunk into its own map and adds the smaller map into the larger one.
+     */
+    static <T, K> Map<K, long[]> countBy(Collection<T> collection, Function<T, K> classifier, ParallelOptions options) {
+        requireNonNull(classifier);
+        List<T> items = asRandomAccessList(collection);
+        return invoke(options, items.size(), (from, to) -> {
+            Map<K, long[]> counts = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                Loops.increment(counts, classifier.apply(items.get(i)), 1);
+            }
+            return counts;
+        }, (left, right) -> {
+            Map<K, long[]> larger = left.size() >= right.size() ? left : right;
+            Map<K, long[]> smaller = larger == left ? right : left;
+            for (Map.Entry<K, long[]> entry : smaller.entrySet()) {
+                Loops.increment(larger, entry.getKey(), entry.getValue()[0]);
+            }
+            return larger;
+        });
+    }
+
+    /**
+     * Counts the matched items of each chunk into a local counter and sums the counters.
+     */
+    static <T> long countIf(Collection<T> collection, Predicate<T> predicate, ParallelOptions options) {
+        requireNonNull(predicate);
+        List<T> items = asRandomAccessList(collection);
+        return invoke(options, items.size(), (from, to) -> {
+            long count = 0L;
+            for (int i = from; i < to; i++) {
+                if (predicate.test(items.get(i))) {
+                    count++;
+                }
+            }
+            return count;
+        }, Long::sum);
+    }
+
+    /**
+     * Returns the index of any matched item or {@code -1}. The first match raises the shared flag,
+     * so the other chunks stop before their next item and the chunks started later return at once.
+     */
+    static <T> int indexOfAny(List<T> items, Predicate<T> predicate, ParallelOptions options) {
+        requireNonNull(predicate);
+        AtomicBoolean found = new AtomicBoolean();
+        return invoke(options, items.size(), (from, to) -> {
+            for (int i = from; i < to && !found.get(); i++) {
+                if (predicate.test(items.get(i))) {
+                    found.set(true);
+                    return i;
+                }
+            }
+            return -1;
+        }, (left, right) -> left >= 0 ? left : right);
+    }
+
+    /**
+     * Accumulates the statistics of each chunk and combines them.
+     */
+    static <T> NumericStats stats(Collection<T> collection, ToDoubleFunction<T> mapper, ParallelOptions options) {
+        requireNonNull(mapper);
+        List<T> items = asRandomAccessList(collection);
+        return invoke(options, items.size(), (from, to) -> {
+            NumericStats stats = new NumericStats();
+            for (int i = from; i < to; i++) {
+                stats.accept(mapper.applyAsDouble(items.get(i)));
+            }
+            return stats;
+        }, NumericStats::combine);
+    }
+
+    /**
+     * Selects the first {@code n} items of each chunk and merges the per-chunk heaps.
+     */
+    static <T> List<T> topN(Collection<T> collection, Comparator<T> comparator, int n, boolean distinct,
+                            ParallelOptions options) {
+        requireNonNull(comparator);
+        checkLimit(n);
+        List<T> items = asRandomAccessList(collection);
+        return invoke(options, items.size(), (from, to) -> {
+            BoundedHeap<T> heap = new BoundedHeap<>(comparator, n, distinct);
+            for (int i = from; i < to; i++) {
+                heap.offer(items.get(i), i);
+            }
+            return heap;
+        }, BoundedHeap::merge).toSortedList();
+    }
+
+    private static final class RangeSplitter<A> extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RangeTask<A> task;
+
+        private final BinaryOperator<A> combiner;
+
+        private final int chunkSize;
+
+        private final int from;
+
+        private final int to;
+
+        RangeSplitter(RangeTask<A> task, BinaryOperator<A> combiner, int chunkSize, int from, int to) {
+            this.task = task;
+            this.combiner = combiner;
+            this.chunkSize = chunkSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= chunkSize) {
+                return task.compute(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            RangeSplitter<A> left = new RangeSplitter<>(task, combiner, chunkSize, from, middle);
+            left.fork();
+            A right = new RangeSplitter<>(task, combiner, chunkSize, middle, to).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+}
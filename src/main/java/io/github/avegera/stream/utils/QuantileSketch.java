@@ -0,0 +1,273 @@
+package io.github.avegera.stream.utils;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The KLL sketch that estimates the quantiles of double values in memory bounded by {@code O(k)}.
+ * <p>
+ * The values are kept in the compactors of levels, a value of the level {@code h} stands for {@code 2^h} values.
+ * The capacity of a level is {@code k} for the top level and decays by 2/3 for each lower level.
+ * A full level is sorted and every other value of it, starting from the random offset, is promoted to the next level.
+ * The rank error of the estimate is about {@code 1.7 / k}, e.g. 1% for the {@link #DEFAULT_K default k} of 200.
+ * <p>
+ * The quantile of {@code q} is the least value whose rank is at least {@code q * count}, the same nearest rank
+ * definition as the exact {@link Counters#quantilesExact} uses. The quantiles of the empty sketch are {@code NaN}.
+ * <p>
+ * Sketches are merged by {@link #merge(QuantileSketch)}, so partial results of separate batches can be combined.
+ * The sketch is serializable and it is not thread-safe.
+ */
+public final class QuantileSketch implements DoubleConsumer, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_K = 200;
+
+    public static final int MIN_K = 8;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+
+    private double[][] levels;
+
+    private int[] sizes;
+
+    private int[] capacities;
+
+    private int levelCount;
+
+    private int totalSize;
+
+    private int totalCapacity;
+
+    private long count;
+
+    private double min = Double.NaN;
+
+    private double max = Double.NaN;
+
+    private long randomState = 0x9E3779B97F4A7C15L;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("K should not be less than " + MIN_K + ": " + k);
+        }
+        this.k = k;
+        this.levels = new double[1][MIN_CAPACITY];
+        this.sizes = new int[1];
+        this.levelCount = 1;
+        updateCapacities();
+    }
+
+    @Override
+    public void accept(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Value should not be NaN");
+        }
+        if (count == 0 || value < min) {
+            min = value;
+        }
+        if (count == 0 || value > max) {
+            max = value;
+        }
+        count++;
+        append(0, value);
+        compress();
+    }
+
+    /**
+     * Adds the values of the other sketch, the {@code k} of this sketch is kept. The sketch may be merged
+     * with itself, then every value is counted twice.
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return this;
+        }
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+        // the sizes are read before appending, as the other sketch may be this one
+        int[] otherSizes = Arrays.copyOf(other.sizes, other.levelCount);
+        for (int level = 0; level < otherSizes.length; level++) {
+            while (levelCount <= level) {
+                addLevel();
+            }
+            for (int i = 0; i < otherSizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        compress();
+        return this;
+    }
+
+    public double quantile(double q) {
+        return quantiles(q)[0];
+    }
+
+    public double[] quantiles(double... qs) {
+        double[] result = new double[qs.length];
+        for (int i = 0; i < qs.length; i++) {
+            checkQuantile(qs[i]);
+        }
+        if (count == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        double[] values = new double[0];
+        long[] weights = new long[0];
+        for (int level = 0; level < levelCount; level++) {
+            double[] items = Arrays.copyOf(levels[level], sizes[level]);
+            Arrays.sort(items);
+            long[] merged = new long[values.length + items.length];
+            values = mergeSorted(values, weights, items, 1L << level, merged);
+            weights = merged;
+        }
+        for (int i = 0; i < qs.length; i++) {
+            result[i] = valueAtRank(values, weights, qs[i]);
+        }
+        return result;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the least accepted value, or {@code NaN} for the empty sketch.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the greatest accepted value, or {@code NaN} for the empty sketch.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{k=" + k + ", count=" + count + ", retained=" + totalSize + "}";
+    }
+
+    static void checkQuantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new IllegalArgumentException("Quantile should be between 0 and 1: " + q);
+        }
+    }
+
+    private double valueAtRank(double[] values, long[] weights, double q) {
+        if (q == 0.0) {
+            return min;
+        }
+        if (q == 1.0) {
+            return max;
+        }
+        double rank = q * count;
+        long cumulativeWeight = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulativeWeight += weights[i];
+            if (cumulativeWeight >= rank) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    private void append(int level, double value) {
+        double[] items = levels[level];
+        if (sizes[level] == items.length) {
+            levels[level] = items = Arrays.copyOf(items, items.length * 2);
+        }
+        items[sizes[level]++] = value;
+        totalSize++;
+    }
+
+    private void compress() {
+        while (totalSize > totalCapacity) {
+            int level = 0;
+            while (sizes[level] < capacities[level]) {
+                level++;
+            }
+            compact(level);
+        }
+    }
+
+    /**
+     * Promotes every other value of the sorted level to the next level, an odd value stays on the level.
+     */
+    private void compact(int level) {
+        if (level + 1 == levelCount) {
+            addLevel();
+        }
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        int evenSize = size & ~1;
+        for (int i = nextRandomBit(); i < evenSize; i += 2) {
+            append(level + 1, items[i]);
+        }
+        if (evenSize < size) {
+            items[0] = items[evenSize];
+        }
+        sizes[level] = size - evenSize;
+        totalSize -= evenSize;
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, levelCount + 1);
+        sizes = Arrays.copyOf(sizes, levelCount + 1);
+        levels[levelCount] = new double[MIN_CAPACITY];
+        levelCount++;
+        updateCapacities();
+    }
+
+    private void updateCapacities() {
+        capacities = new int[levelCount];
+        totalCapacity = 0;
+        for (int level = 0; level < levelCount; level++) {
+            int depth = levelCount - 1 - level;
+            capacities[level] = Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+            totalCapacity += capacities[level];
+        }
+    }
+
+    private int nextRandomBit() {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) (randomState >>> 63);
+    }
+
+    /**
+     * Merges the sorted weighted values with the sorted values of the same weight, the weights go to {@code mergedWeights}.
+     */
+    private static double[] mergeSorted(double[] values, long[] weights, double[] items, long weight, long[] mergedWeights) {
+        double[] merged = new double[values.length + items.length];
+        int i = 0;
+        int j = 0;
+        for (int m = 0; m < merged.length; m++) {
+            if (j == items.length || (i < values.length && values[i] <= items[j])) {
+                mergedWeights[m] = weights[i];
+                merged[m] = values[i++];
+            } else {
+                mergedWeights[m] = weight;
+                merged[m] = items[j++];
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.Loops.isEmpty;
+import static io.github.avegera.stream.utils.Loops.isRandomAccessList;
+
+/**
+ * The class contains the search in the lists sorted by a key.
+ * <p>
+ * The search looks for the partition point: the index of the first item that is not before the searched key.
+ * {@link java.util.RandomAccess} lists are searched by the binary search in {@code O(log n)} key extractions,
+ * other lists are iterated up to the partition point.
+ */
+final class Searching {
+
+    private Searching() {
+        //empty private constructor
+    }
+
+    /**
+     * Returns the first item that is neither before nor after the key.
+     */
+    static <T> Optional<T> find(List<T> list, Predicate<T> isBefore, Predicate<T> isAfter) {
+        if (isEmpty(list)) {
+            return Optional.empty();
+        }
+        int index = partitionPoint(list, isBefore);
+        if (index == list.size()) {
+            return Optional.empty();
+        }
+        T item = list.get(index);
+        return isAfter.test(item) ? Optional.empty() : Optional.of(item);
+    }
+
+    /**
+     * Returns the view of the items from the first one not before the lower key
+     * to the first one not before the upper key.
+     */
+    static <T> List<T> range(List<T> list, Predicate<T> isBeforeFrom, Predicate<T> isBeforeTo) {
+        if (isEmpty(list)) {
+            return Collections.emptyList();
+        }
+        int from = partitionPoint(list, isBeforeFrom);
+        int to = Math.max(from, partitionPoint(list, isBeforeTo));
+        return list.subList(from, to);
+    }
+
+    static void checkRange(int comparison) {
+        if (comparison > 0) {
+            throw new IllegalArgumentException("From key should not be greater than to key");
+        }
+    }
+
+    private static <T> int partitionPoint(List<T> list, Predicate<T> isBefore) {
+        if (isRandomAccessList(list)) {
+            int low = 0;
+            int high = list.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (isBefore.test(list.get(middle))) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+        ListIterator<T> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            if (!isBefore.test(iterator.next())) {
+                return iterator.previousIndex();
+            }
+        }
+        return list.size();
+    }
+}
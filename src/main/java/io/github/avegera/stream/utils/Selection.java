@@ -0,0 +1,91 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Arrays;
+
+/**
+ * The class contains the in-place selection of order statistics from primitive arrays.
+ * <p>
+ * The quickselect partitions the array in three parts around the median of three, so the runs of equal values
+ * are settled at once. The ranks are selected in the ascending order, each one in the part above the previous rank.
+ */
+final class Selection {
+
+    private static final int SORT_THRESHOLD = 16;
+
+    private Selection() {
+        //empty private constructor
+    }
+
+    /**
+     * Returns the nearest rank quantiles of the values, the values are reordered.
+     */
+    static double[] quantiles(double[] values, double... qs) {
+        double[] result = new double[qs.length];
+        for (double q : qs) {
+            QuantileSketch.checkQuantile(q);
+        }
+        if (values.length == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        for (double value : values) {
+            if (Double.isNaN(value)) {
+                throw new IllegalArgumentException("Value should not be NaN");
+            }
+        }
+        int[] ranks = new int[qs.length];
+        for (int i = 0; i < qs.length; i++) {
+            ranks[i] = Math.max(0, (int) Math.ceil(qs[i] * values.length) - 1);
+        }
+        int[] order = Sorting.order(ranks);
+        int from = 0;
+        for (int index : order) {
+            int rank = ranks[index];
+            select(values, from, values.length, rank);
+            result[index] = values[rank];
+            from = rank;
+        }
+        return result;
+    }
+
+    /**
+     * Moves the value of the rank to its sorted position in the range, the lesser values go before it
+     * and the greater ones go after it.
+     */
+    static void select(double[] values, int from, int to, int rank) {
+        while (to - from > SORT_THRESHOLD) {
+            double pivot = median(values[from], values[(from + to) >>> 1], values[to - 1]);
+            int less = from;
+            int greater = to;
+            int i = from;
+            while (i < greater) {
+                double value = values[i];
+                if (value < pivot) {
+                    swap(values, less++, i++);
+                } else if (value > pivot) {
+                    swap(values, i, --greater);
+                } else {
+                    i++;
+                }
+            }
+            if (rank < less) {
+                to = less;
+            } else if (rank >= greater) {
+                from = greater;
+            } else {
+                return;
+            }
+        }
+        Arrays.sort(values, from, to);
+    }
+
+    private static double median(double first, double second, double third) {
+        return Math.max(Math.min(first, second), Math.min(Math.max(first, second), third));
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
@@ -0,0 +1,313 @@
+package io.github.avegera.stream.utils;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.Loops.hashCapacity;
+import static io.github.avegera.stream.utils.Loops.isEmpty;
+import static io.github.avegera.stream.utils.Loops.size;
+
+/**
+ * The class contains the set operations over collections: the copying ones, the lazy views and the membership checks.
+ * <p>
+ * The copying operations iterate the smaller input where the operation allows it and look the items up
+ * in the other input, which is hashed only if it isn't a {@link Set} already. If the larger input of
+ * the intersection isn't a {@link Set}, the smaller input is hashed and the larger one is iterated,
+ * so the intersection takes {@code O(smaller)} memory.
+ * <p>
+ * The views don't copy the inputs: they are unmodifiable and reflect the later changes of the input sets.
+ * Their {@code size()} iterates the view, and {@code contains()} looks the item up in the input sets.
+ */
+final class SetAlgebra {
+
+    /**
+     * The size of the collection up to which its own {@code contains} is used instead of hashing it.
+     */
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    private SetAlgebra() {
+        //empty private constructor
+    }
+
+    static <T> Set<T> union(Collection<T> first, Collection<T> second) {
+        Set<T> result = new HashSet<>(hashCapacity(size(first) + size(second)));
+        addAll(result, first, item -> true);
+        addAll(result, second, item -> true);
+        return result;
+    }
+
+    static <T> Set<T> intersection(Collection<T> first, Collection<T> second) {
+        if (isEmpty(first) || isEmpty(second)) {
+            return new HashSet<>();
+        }
+        Collection<T> smaller = first.size() <= second.size() ? first : second;
+        Collection<T> larger = smaller == first ? second : first;
+        Collection<T> iterated = smaller;
+        Set<T> lookup;
+        if (larger instanceof Set) {
+            lookup = (Set<T>) larger;
+        } else {
+            iterated = larger;
+            lookup = smaller instanceof Set ? (Set<T>) smaller : new HashSet<>(smaller);
+        }
+        Set<T> result = new HashSet<>(hashCapacity(smaller.size()));
+        addAll(result, iterated, lookup::contains);
+        return result;
+    }
+
+    static <T> Set<T> difference(Collection<T> first, Collection<T> second) {
+        Set<T> result = new HashSet<>(hashCapacity(size(first)));
+        if (isEmpty(second)) {
+            addAll(result, first, item -> true);
+        } else {
+            Set<T> lookup = asSet(second);
+            addAll(result, first, item -> !lookup.contains(item));
+        }
+        return result;
+    }
+
+    static <T> Set<T> symmetricDifference(Collection<T> first, Collection<T> second) {
+        Set<T> firstSet = asSet(first);
+        Set<T> secondSet = asSet(second);
+        Set<T> result = new HashSet<>(hashCapacity(firstSet.size() + secondSet.size()));
+        addAll(result, firstSet, item -> !secondSet.contains(item));
+        addAll(result, secondSet, item -> !firstSet.contains(item));
+        return result;
+    }
+
+    /**
+     * Returns whether the collections have a common item: the smaller one is looked up in the larger {@link Set},
+     * or the larger one is looked up in the smaller {@link Set}, small or hashed collection.
+     */
+    static boolean intersects(Collection<?> first, Collection<?> second) {
+        if (isEmpty(first) || isEmpty(second)) {
+            return false;
+        }
+        Collection<?> smaller = first.size() <= second.size() ? first : second;
+        Collection<?> larger = smaller == first ? second : first;
+        if (larger instanceof Set) {
+            return containsAny(smaller, larger);
+        }
+        return containsAny(larger, lookup(smaller));
+    }
+
+    /**
+     * Returns whether the collection contains all the values: they are looked up in the {@link Set},
+     * otherwise the hashed values are removed by the items of the collection until none remain.
+     */
+    static boolean containsAll(Collection<?> collection, Collection<?> values) {
+        if (isEmpty(values)) {
+            return true;
+        }
+        if (isEmpty(collection)) {
+            return false;
+        }
+        if (collection instanceof Set || values.size() <= LINEAR_SEARCH_THRESHOLD) {
+            for (Object value : values) {
+                if (!collection.contains(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Set<Object> remaining = new HashSet<>(values);
+        for (Object item : collection) {
+            remaining.remove(item);
+            if (remaining.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the collection to look the items up in: the {@link Set} or the small collection itself,
+     * otherwise the hashed copy of it. The values should not be null.
+     */
+    static Collection<?> lookup(Collection<?> values) {
+        if (values instanceof Set || values.size() <= LINEAR_SEARCH_THRESHOLD) {
+            return values;
+        }
+        return new HashSet<>(values);
+    }
+
+    static <T> Set<T> unionView(Set<T> first, Set<T> second) {
+        Set<T> left = nonNull(first);
+        Set<T> right = nonNull(second);
+        return new SetView<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return new ViewIterator<>(left.iterator(), item -> true, right.iterator(), item -> !left.contains(item));
+            }
+
+            @Override
+            public boolean contains(Object item) {
+                return left.contains(item) || right.contains(item);
+            }
+        };
+    }
+
+    static <T> Set<T> intersectionView(Set<T> first, Set<T> second) {
+        Set<T> left = nonNull(first);
+        Set<T> right = nonNull(second);
+        return new SetView<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                Set<T> smaller = left.size() <= right.size() ? left : right;
+                Set<T> larger = smaller == left ? right : left;
+                return new ViewIterator<>(smaller.iterator(), larger::contains, null, null);
+            }
+
+            @Override
+            public boolean contains(Object item) {
+                return left.contains(item) && right.contains(item);
+            }
+        };
+    }
+
+    static <T> Set<T> differenceView(Set<T> first, Set<T> second) {
+        Set<T> left = nonNull(first);
+        Set<T> right = nonNull(second);
+        return new SetView<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return new ViewIterator<>(left.iterator(), item -> !right.contains(item), null, null);
+            }
+
+            @Override
+            public boolean contains(Object item) {
+                return left.contains(item) && !right.contains(item);
+            }
+        };
+    }
+
+    static <T> Set<T> symmetricDifferenceView(Set<T> first, Set<T> second) {
+        Set<T> left = nonNull(first);
+        Set<T> right = nonNull(second);
+        return new SetView<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return new ViewIterator<>(left.iterator(), item -> !right.contains(item),
+                        right.iterator(), item -> !left.contains(item));
+            }
+
+            @Override
+            public boolean contains(Object item) {
+                return left.contains(item) != right.contains(item);
+            }
+        };
+    }
+
+    private static boolean containsAny(Collection<?> items, Collection<?> lookup) {
+        for (Object item : items) {
+            if (lookup.contains(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> Set<T> asSet(Collection<T> collection) {
+        if (isEmpty(collection)) {
+            return Collections.emptySet();
+        }
+        return collection instanceof Set ? (Set<T>) collection : new HashSet<>(collection);
+    }
+
+    private static <T> Set<T> nonNull(Set<T> set) {
+        return set == null ? Collections.emptySet() : set;
+    }
+
+    private static <T> void addAll(Set<T> result, Collection<T> collection, Predicate<T> predicate) {
+        if (isEmpty(collection)) {
+            return;
+        }
+        for (T item : collection) {
+            if (predicate.test(item)) {
+                result.add(item);
+            }
+        }
+    }
+
+    /**
+     * The unmodifiable view, the size is counted by the iteration.
+     */
+    private abstract static class SetView<T> extends AbstractSet<T> {
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+    }
+
+    /**
+     * Iterates the matched items of the first iterator and then the matched items of the optional second one.
+     */
+    private static final class ViewIterator<T> implements Iterator<T> {
+
+        private Iterator<T> current;
+
+        private Predicate<? super T> filter;
+
+        private Iterator<T> next;
+
+        private Predicate<? super T> nextFilter;
+
+        private T item;
+
+        private boolean ready;
+
+        ViewIterator(Iterator<T> first, Predicate<? super T> firstFilter, Iterator<T> second, Predicate<? super T> secondFilter) {
+            this.current = first;
+            this.filter = firstFilter;
+            this.next = second;
+            this.nextFilter = secondFilter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!ready) {
+                if (current.hasNext()) {
+                    T candidate = current.next();
+                    if (filter.test(candidate)) {
+                        item = candidate;
+                        ready = true;
+                    }
+                } else if (next != null) {
+                    current = next;
+                    filter = nextFilter;
+                    next = null;
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = item;
+            item = null;
+            ready = false;
+            return result;
+        }
+    }
+}
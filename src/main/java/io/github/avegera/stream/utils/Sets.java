@@ -2,41 +2,96 @@ package io.github.avegera.stream.utils;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
+import static io.github.avegera.stream.utils.Loops.hashCapacity;
 import static io.github.avegera.stream.utils.Streams.safeStream;
-import static java.util.stream.Collectors.toCollection;
+import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toSet;
 
 /**
  * The class contains laconic method-aliases for safe stream operations with collections in Java.
  * The result of class methods operations is {@link java.util.Set}
+ * <p>
+ * The result set is pre-sized by the size of the source collection, so it is filled without rehashing.
+ * The {@code flatMapCollectionsToSet} methods pre-size it by the largest nested collection only,
+ * because the nested collections may share their items. The {@code filterToSet} methods don't pre-size it,
+ * as a selective predicate would leave the most of the table empty.
+ * Use the overloads with {@code setFactory} to choose the set implementation, the factory receives
+ * the initial capacity of the hash table, e.g. {@code LinkedHashSet::new}.
+ * <p>
+ * The {@code ...ToImmutableSet} methods return an unmodifiable open-addressing set without per-item nodes,
+ * it is the compact alternative for results that are only read afterwards.
+ * <p>
+ * The {@code ...ToIntSet} and {@code ...ToLongSet} methods return the {@link IntSet} and {@link LongSet}
+ * of primitive values without boxing.
+ * <p>
+ * The set operations {@code union}, {@code intersection}, {@code difference} and {@code symmetricDifference}
+ * treat {@code null} as the empty collection. Their {@code ...View} variants return unmodifiable live views
+ * of the input sets without copying them.
  */
 public class Sets {
 
+    private static final int DEFAULT_CAPACITY = 16;
+
     private Sets() {
         //empty private constructor
     }
 
+    public static <T> Set<T> collectToImmutableSet(Collection<T> collection) {
+        Object[] items = Loops.toArray(collection);
+        return ImmutableHashSet.copyOf(items, items.length);
+    }
+
     public static <T> Set<T> collectToSet(Collection<T> collection) {
-        return safeStream(collection)
-                .collect(toSet());
+        return Loops.collect(collection, Sets::newHashSet);
+    }
+
+    public static <T, S extends Set<T>> S collectToSet(Collection<T> collection, IntFunction<S> setFactory) {
+        return Loops.collect(collection, presized(setFactory));
     }
 
     public static <T> Set<T> distinctToSet(Collection<T> collection) {
-        return safeStream(collection)
-                .distinct()
-                .collect(toSet());
+        return Loops.collect(collection, Sets::newHashSet);
+    }
+
+    public static <T> Set<T> difference(Collection<T> first, Collection<T> second) {
+        return SetAlgebra.difference(first, second);
+    }
+
+    public static <T> Set<T> differenceView(Set<T> first, Set<T> second) {
+        return SetAlgebra.differenceView(first, second);
+    }
+
+    public static IntSet distinctToIntSet(Collection<Integer> collection) {
+        return IntSet.of(Loops.mapToInt(collection, Integer::intValue));
+    }
+
+    public static LongSet distinctToLongSet(Collection<Long> collection) {
+        return LongSet.of(Loops.mapToLong(collection, Long::longValue));
+    }
+
+    public static <T> Set<T> filterToImmutableSet(Collection<T> collection, Predicate<T> predicate) {
+        Object[] items = Loops.filterToArray(collection, predicate);
+        return ImmutableHashSet.copyOf(items, items.length);
     }
 
     public static <T> Set<T> filterToSet(Collection<T> collection, Predicate<T> predicate) {
-        return safeStream(collection)
-                .filter(predicate)
-                .collect(toSet());
+        return Loops.filter(collection, predicate, HashSet::new);
+    }
+
+    public static <T, S extends Set<T>> S filterToSet(Collection<T> collection, Predicate<T> predicate, IntFunction<S> setFactory) {
+        requireNonNull(setFactory);
+        return Loops.filter(collection, predicate, () -> setFactory.apply(DEFAULT_CAPACITY));
     }
 
     public static <T, R> Set<R> flatMapToSet(Collection<T> collection, Function<T, ? extends Stream<R>> flatMapper) {
@@ -46,20 +101,84 @@ public class Sets {
     }
 
     public static <T, R> Set<R> flatMapCollectionsToSet(Collection<T> collection, Function<T, ? extends Collection<R>> flatMapper) {
-        return safeStream(collection)
-                .flatMap(e -> safeStream(flatMapper.apply(e)))
-                .collect(toSet());
+        return Loops.flatMapCollections(collection, flatMapper, true, Sets::newHashSet);
+    }
+
+    public static <T, R, S extends Set<R>> S flatMapCollectionsToSet(Collection<T> collection, Function<T, ? extends Collection<R>> flatMapper,
+                                                                     IntFunction<S> setFactory) {
+        return Loops.flatMapCollections(collection, flatMapper, true, presized(setFactory));
+    }
+
+    public static <T> Set<T> intersection(Collection<T> first, Collection<T> second) {
+        return SetAlgebra.intersection(first, second);
+    }
+
+    public static <T> Set<T> intersectionView(Set<T> first, Set<T> second) {
+        return SetAlgebra.intersectionView(first, second);
+    }
+
+    public static <T, R> Set<R> mapToImmutableSet(Collection<T> collection, Function<T, R> mapper) {
+        Object[] items = Loops.mapToArray(collection, mapper);
+        return ImmutableHashSet.copyOf(items, items.length);
+    }
+
+    public static <T> IntSet mapToIntSet(Collection<T> collection, ToIntFunction<T> mapper) {
+        return IntSet.of(Loops.mapToInt(collection, mapper));
+    }
+
+    public static <T> LongSet mapToLongSet(Collection<T> collection, ToLongFunction<T> mapper) {
+        return LongSet.of(Loops.mapToLong(collection, mapper));
     }
 
     public static <T, R> Set<R> mapToSet(Collection<T> collection, Function<T, R> mapper) {
-        return safeStream(collection)
-                .map(mapper)
-                .collect(toSet());
+        return Loops.map(collection, mapper, Sets::newHashSet);
+    }
+
+    public static <T, R, S extends Set<R>> S mapToSet(Collection<T> collection, Function<T, R> mapper, IntFunction<S> setFactory) {
+        return Loops.map(collection, mapper, presized(setFactory));
     }
 
     public static <T> Set<T> sortToSet(Collection<T> collection, Comparator<T> comparator) {
-        return safeStream(collection)
-                .sorted(comparator)
-                .collect(toCollection(LinkedHashSet::new));
+        List<T> sorted = Loops.sort(collection, comparator);
+        Set<T> result = new LinkedHashSet<>(hashCapacity(sorted.size()));
+        result.addAll(sorted);
+        return result;
+    }
+
+    public static <T, K extends Comparable<? super K>> Set<T> sortToSetBy(Collection<T> collection, Function<T, K> keyExtractor) {
+        return sortToSetBy(collection, keyExtractor, Comparator.naturalOrder());
+    }
+
+    public static <T, K> Set<T> sortToSetBy(Collection<T> collection, Function<T, K> keyExtractor, Comparator<? super K> keyComparator) {
+        return Loops.sortBy(collection, keyExtractor, keyComparator, size -> new LinkedHashSet<>(hashCapacity(size)));
+    }
+
+    public static <T> Set<T> symmetricDifference(Collection<T> first, Collection<T> second) {
+        return SetAlgebra.symmetricDifference(first, second);
+    }
+
+    public static <T> Set<T> symmetricDifferenceView(Set<T> first, Set<T> second) {
+        return SetAlgebra.symmetricDifferenceView(first, second);
+    }
+
+    public static <T> Set<T> topNToSet(Collection<T> collection, Comparator<T> comparator, int n) {
+        return new LinkedHashSet<>(Loops.topN(collection, comparator, n, true));
+    }
+
+    public static <T> Set<T> union(Collection<T> first, Collection<T> second) {
+        return SetAlgebra.union(first, second);
+    }
+
+    public static <T> Set<T> unionView(Set<T> first, Set<T> second) {
+        return SetAlgebra.unionView(first, second);
+    }
+
+    private static <T> Set<T> newHashSet(int expectedSize) {
+        return new HashSet<>(hashCapacity(expectedSize));
+    }
+
+    private static <S> IntFunction<S> presized(IntFunction<S> setFactory) {
+        requireNonNull(setFactory);
+        return expectedSize -> setFactory.apply(hashCapacity(expectedSize));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package io.github.avegera.stream.utils;
+
+import java.util.Comparator;
+
+/**
+ * The class contains the stable sorts of the pre-extracted keys.
+ * <p>
+ * The result is the permutation of the key indexes in the sorted order.
+ * It lets the caller extract every key exactly once and then reorder the source items by the permutation.
+ * <p>
+ * The primitive keys are sorted by the LSD radix sort with 8-bit digits in linear time,
+ * the digits that are equal for all keys are skipped. Small inputs use the insertion sort instead.
+ */
+final class Sorting {
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private static final int RADIX_SORT_THRESHOLD = 64;
+
+    private static final int DIGIT_BITS = 8;
+
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    private Sorting() {
+        //empty private constructor
+    }
+
+    /**
+     * Returns the indexes of the keys in the order of the stable merge sort.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> int[] order(Object[] keys, Comparator<? super K> comparator) {
+        int[] order = identity(keys.length);
+        mergeSort(order.clone(), order, 0, keys.length, keys, (Comparator<Object>) comparator);
+        return order;
+    }
+
+    /**
+     * Returns the indexes of the keys in the order of the stable radix sort.
+     */
+    static int[] order(int[] keys) {
+        int size = keys.length;
+        int[] order = identity(size);
+        if (size < RADIX_SORT_THRESHOLD) {
+            for (int i = 1; i < size; i++) {
+                int index = order[i];
+                int j = i;
+                for (; j > 0 && keys[order[j - 1]] > keys[index]; j--) {
+                    order[j] = order[j - 1];
+                }
+                order[j] = index;
+            }
+            return order;
+        }
+        int[] sortedKeys = new int[size];
+        int[][] counts = new int[Integer.SIZE / DIGIT_BITS][RADIX + 1];
+        for (int i = 0; i < size; i++) {
+            int key = keys[i] ^ Integer.MIN_VALUE;
+            sortedKeys[i] = key;
+            for (int pass = 0; pass < counts.length; pass++) {
+                counts[pass][((key >>> pass * DIGIT_BITS) & DIGIT_MASK) + 1]++;
+            }
+        }
+        int[] keyBuffer = new int[size];
+        int[] orderBuffer = new int[size];
+        for (int pass = 0; pass < counts.length; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] offsets = counts[pass];
+            if (offsets[((sortedKeys[0] >>> shift) & DIGIT_MASK) + 1] == size) {
+                continue;
+            }
+            for (int digit = 0; digit < RADIX; digit++) {
+                offsets[digit + 1] += offsets[digit];
+            }
+            for (int i = 0; i < size; i++) {
+                int key = sortedKeys[i];
+                int position = offsets[(key >>> shift) & DIGIT_MASK]++;
+                keyBuffer[position] = key;
+                orderBuffer[position] = order[i];
+            }
+            int[] keySwap = sortedKeys;
+            sortedKeys = keyBuffer;
+            keyBuffer = keySwap;
+            int[] orderSwap = order;
+            order = orderBuffer;
+            orderBuffer = orderSwap;
+        }
+        return order;
+    }
+
+    /**
+     * Returns the indexes of the keys in the order of the stable radix sort.
+     */
+    static int[] order(long[] keys) {
+        int size = keys.length;
+        int[] order = identity(size);
+        if (size < RADIX_SORT_THRESHOLD) {
+            for (int i = 1; i < size; i++) {
+                int index = order[i];
+                int j = i;
+                for (; j > 0 && keys[order[j - 1]] > keys[index]; j--) {
+                    order[j] = order[j - 1];
+                }
+                order[j] = index;
+            }
+            return order;
+        }
+        long[] sortedKeys = new long[size];
+        int[][] counts = new int[Long.SIZE / DIGIT_BITS][RADIX + 1];
+        for (int i = 0; i < size; i++) {
+            long key = keys[i] ^ Long.MIN_VALUE;
+            sortedKeys[i] = key;
+            for (int pass = 0; pass < counts.length; pass++) {
+                counts[pass][(int) ((key >>> pass * DIGIT_BITS) & DIGIT_MASK) + 1]++;
+            }
+        }
+        long[] keyBuffer = new long[size];
+        int[] orderBuffer = new int[size];
+        for (int pass = 0; pass < counts.length; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] offsets = counts[pass];
+            if (offsets[(int) ((sortedKeys[0] >>> shift) & DIGIT_MASK) + 1] == size) {
+                continue;
+            }
+            for (int digit = 0; digit < RADIX; digit++) {
+                offsets[digit + 1] += offsets[digit];
+            }
+            for (int i = 0; i < size; i++) {
+                long key = sortedKeys[i];
+                int position = offsets[(int) ((key >>> shift) & DIGIT_MASK)]++;
+                keyBuffer[position] = key;
+                orderBuffer[position] = order[i];
+            }
+            long[] keySwap = sortedKeys;
+            sortedKeys = keyBuffer;
+            keyBuffer = keySwap;
+            int[] orderSwap = order;
+            order = orderBuffer;
+            orderBuffer = orderSwap;
+        }
+        return order;
+    }
+
+    static int[] identity(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Sorts the {@code dest} range, the {@code src} range must contain the same indexes and is used as a buffer.
+     */
+    private static void mergeSort(int[] src, int[] dest, int low, int high, Object[] keys, Comparator<Object> comparator) {
+        if (high - low < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                int index = dest[i];
+                int j = i;
+                for (; j > low && comparator.compare(keys[dest[j - 1]], keys[index]) > 0; j--) {
+                    dest[j] = dest[j - 1];
+                }
+                dest[j] = index;
+            }
+            return;
+        }
+        int middle = (low + high) >>> 1;
+        mergeSort(dest, src, low, middle, keys, comparator);
+        mergeSort(dest, src, middle, high, keys, comparator);
+        if (comparator.compare(keys[src[middle - 1]], keys[src[middle]]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
+        }
+        for (int i = low, left = low, right = middle; i < high; i++) {
+            if (right >= high || left < middle && comparator.compare(keys[src[left]], keys[src[right]]) <= 0) {
+                dest[i] = src[left++];
+            } else {
+                dest[i] = src[right++];
+            }
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package io.github.avegera.stream.utils;
 
 import java.util.Collection;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Stream.empty;
 
 /**
  * The class contains laconic method-aliases for safe stream operations with collections in Java.
- * The result of class methods operations is {@link java.util.stream.Stream}
+ * The result of class methods operations is {@link java.util.stream.Stream} or its primitive specialization
  */
 public class Streams {
 
@@ -18,4 +24,16 @@ public class Streams {
     public static <T> Stream<T> safeStream(Collection<T> collection) {
         return collection != null && !collection.isEmpty() ? collection.stream() : empty();
     }
-}
\ No newline at end of file
+
+    public static <T> IntStream safeIntStream(Collection<T> collection, ToIntFunction<T> mapper) {
+        return safeStream(collection).mapToInt(mapper);
+    }
+
+    public static <T> LongStream safeLongStream(Collection<T> collection, ToLongFunction<T> mapper) {
+        return safeStream(collection).mapToLong(mapper);
+    }
+
+    public static <T> DoubleStream safeDoubleStream(Collection<T> collection, ToDoubleFunction<T> mapper) {
+        return safeStream(collection).mapToDouble(mapper);
+    }
+}
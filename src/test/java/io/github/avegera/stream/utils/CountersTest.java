@@ -9,13 +9,37 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static io.github.avegera.stream.utils.Counters.count;
+import static io.github.avegera.stream.utils.Counters.countBy;
+import static io.github.avegera.stream.utils.Counters.countDistinctApprox;
+import static io.github.avegera.stream.utils.Counters.countDistinctApproxByLong;
+import static io.github.avegera.stream.utils.Counters.countDistinctSketch;
+import static io.github.avegera.stream.utils.Counters.countDistinctSketchByLong;
+import static io.github.avegera.stream.utils.Counters.countFrequentSketch;
+import static io.github.avegera.stream.utils.Counters.countIf;
+import static io.github.avegera.stream.utils.Counters.maxBy;
+import static io.github.avegera.stream.utils.Counters.minBy;
+import static io.github.avegera.stream.utils.Counters.quantileSketch;
+import static io.github.avegera.stream.utils.Counters.quantiles;
+import static io.github.avegera.stream.utils.Counters.quantilesExact;
+import static io.github.avegera.stream.utils.Counters.stats;
+import static io.github.avegera.stream.utils.Counters.sumDouble;
+import static io.github.avegera.stream.utils.Counters.sumInt;
+import static io.github.avegera.stream.utils.Counters.sumLong;
+import static io.github.avegera.stream.utils.Counters.topKFrequent;
+import static io.github.avegera.stream.utils.test.PredicateUtils.INTEGER_IS_EVEN;
+import static io.github.avegera.stream.utils.test.PredicateUtils.ORG_WITH_EVEN_ID;
 import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static io.github.avegera.stream.utils.test.TestUtils.getShuffledList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CountersTest {
 
@@ -58,4 +82,354 @@ class CountersTest {
             assertEquals(size, count);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Count of matched collection items")
+    class CountIf {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable predicate")
+        void forNullablePredicate() {
+            assertThrows(NullPointerException.class, () -> countIf(null, null));
+        }
+
+        @Test
+        @DisplayName("returns zero for nullable collection")
+        void forNullableCollection() {
+            assertEquals(0L, countIf(null, ORG_WITH_EVEN_ID));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns count of matched list items")
+        void returnsCountOfMatchedListItems(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            assertEquals(size / 2, countIf(list, ORG_WITH_EVEN_ID));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns count of matched set items")
+        void returnsCountOfMatchedSetItems(int size) {
+            Set<Integer> set = new LinkedHashSet<>(getNaturalNumbers(size));
+            assertEquals(size / 2, countIf(set, INTEGER_IS_EVEN));
+        }
+    }
+
+    @Nested
+    @DisplayName("Count of collection items by key")
+    class CountBy {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable classifier")
+        void forNullableClassifier() {
+            assertThrows(NullPointerException.class, () -> countBy(null, null));
+        }
+
+        @Nested
+        @DisplayName("returns empty map")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                assertTrue(countBy(null, Function.identity()).isEmpty());
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                assertTrue(countBy(new HashSet<>(), Function.identity()).isEmpty());
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the same counts as grouping by collector")
+        void returnsSameCountsAsGroupingBy(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Map<Integer, Long> result = countBy(list, org -> org.getId() % 3);
+            Map<Integer, Long> expected = list.stream()
+                    .collect(Collectors.groupingBy(org -> org.getId() % 3, Collectors.counting()));
+            assertEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("returns counts for linked list with nullable key")
+        void returnsCountsForLinkedListWithNullableKey() {
+            Collection<String> collection = new LinkedList<>(Arrays.asList("a", null, "b", "a", null, "a"));
+            Map<String, Long> result = countBy(collection, Function.identity());
+
+            Map<String, Long> expected = new HashMap<>();
+            expected.put("a", 3L);
+            expected.put("b", 1L);
+            expected.put(null, 2L);
+            assertEquals(expected, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Approximate count of distinct keys")
+    class CountDistinctApprox {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable key extractor")
+        void forNullableKeyExtractor() {
+            assertThrows(NullPointerException.class, () -> countDistinctApprox(null, null));
+        }
+
+        @Test
+        @DisplayName("throws illegal argument exception for invalid precision")
+        void forInvalidPrecision() {
+            assertThrows(IllegalArgumentException.class, () -> countDistinctApprox(null, Function.identity(), 2));
+        }
+
+        @Test
+        @DisplayName("returns zero for nullable collection")
+        void forNullableCollection() {
+            assertEquals(0L, countDistinctApprox(null, Function.identity()));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns count of distinct keys")
+        void returnsCountOfDistinctKeys(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            assertEquals(size, countDistinctApprox(list, Organization::getId));
+            assertEquals(size / 2 + 1, countDistinctApprox(new LinkedList<>(list), org -> org.getId() / 2));
+        }
+
+        @Test
+        @DisplayName("returns estimate of merged sketches of batches")
+        void returnsEstimateOfMergedSketches() {
+            List<Integer> firstBatch = getList(60_000, Function.identity());
+            List<Integer> secondBatch = getList(60_000, i -> i + 40_000);
+            HyperLogLog sketch = countDistinctSketch(firstBatch, Function.identity(), 14)
+                    .merge(countDistinctSketch(new HashSet<>(secondBatch), Function.identity(), 14));
+            assertEquals(100_000, sketch.estimate(), 100_000 * 0.03);
+        }
+
+        @Test
+        @DisplayName("returns count of distinct 64-bit keys by hasher")
+        void returnsCountOfDistinctKeysByHasher() {
+            assertThrows(NullPointerException.class, () -> countDistinctApproxByLong(null, null));
+            assertEquals(0L, countDistinctApproxByLong(null, Integer::longValue));
+            List<Integer> list = getList(100_000, Function.identity());
+            long estimate = countDistinctApproxByLong(list, i -> (long) i << 32 | i);
+            assertEquals(100_000, estimate, 100_000 * 0.03);
+            HyperLogLog sketch = countDistinctSketchByLong(list, Integer::longValue, 12);
+            assertEquals(countDistinctSketch(list, Function.identity(), 12), sketch);
+            assertEquals(100_000, countDistinctApproxByLong(new HashSet<>(list), Integer::longValue, 12), 100_000 * 0.05);
+        }
+    }
+
+    @Nested
+    @DisplayName("Top k frequent keys")
+    class TopKFrequent {
+
+        @Test
+        @DisplayName("throws exception for invalid arguments")
+        void forInvalidArguments() {
+            assertThrows(NullPointerException.class, () -> topKFrequent(null, null, 1));
+            assertThrows(IllegalArgumentException.class, () -> topKFrequent(null, Function.identity(), -1));
+            assertThrows(IllegalArgumentException.class, () -> topKFrequent(null, Function.identity(), 1, 0));
+        }
+
+        @Test
+        @DisplayName("returns empty list for nullable collection and zero k")
+        void forNullableCollectionAndZeroK() {
+            assertTrue(topKFrequent(null, Function.identity(), 3).isEmpty());
+            assertTrue(topKFrequent(getList(10, Function.identity()), Function.identity(), 0).isEmpty());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the most frequent keys with exact counts")
+        void returnsMostFrequentKeys(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<HeavyHitters.Entry<Boolean>> result = topKFrequent(list, org -> org.getId() % 3 != 0, 1);
+            assertEquals(1, result.size());
+            assertEquals(Boolean.TRUE, result.get(0).getKey());
+            assertEquals(size - size / 3, result.get(0).getCount());
+            assertEquals(0L, result.get(0).getError());
+        }
+
+        @Test
+        @DisplayName("returns the most frequent keys of merged batches")
+        void returnsMostFrequentKeysOfMergedBatches() {
+            List<Integer> firstBatch = getList(1000, i -> i % 10 == 0 ? 7 : i);
+            Set<Integer> secondBatch = new HashSet<>(getList(100, i -> i + 5000));
+            HeavyHitters<Integer> sketch = countFrequentSketch(firstBatch, Function.identity(), 50)
+                    .merge(countFrequentSketch(secondBatch, Function.identity(), 50));
+            assertEquals(7, sketch.topK(1).get(0).getKey());
+            assertEquals(1100L, sketch.getTotal());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sum of collection values")
+    class Sum {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable mapper")
+        void forNullableMapper() {
+            assertThrows(NullPointerException.class, () -> sumInt(null, null));
+            assertThrows(NullPointerException.class, () -> sumLong(null, null));
+            assertThrows(NullPointerException.class, () -> sumDouble(null, null));
+        }
+
+        @Test
+        @DisplayName("returns zero for nullable collection")
+        void forNullableCollection() {
+            assertEquals(0L, sumInt(null, Organization::getId));
+            assertEquals(0L, sumLong(null, Organization::getId));
+            assertEquals(0.0, sumDouble(null, Organization::getId));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns sum of collection values")
+        void returnsSumOfValues(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            long expected = (long) size * (size + 1) / 2;
+            assertEquals(expected, sumInt(list, Organization::getId));
+            assertEquals(expected, sumInt(new LinkedList<>(list), Organization::getId));
+            assertEquals(expected, sumLong(list, Organization::getId));
+            assertEquals(expected, sumLong(new HashSet<>(list), Organization::getId));
+            assertEquals(expected, sumDouble(list, Organization::getId));
+        }
+
+        @Test
+        @DisplayName("returns sum of int values without overflow")
+        void returnsSumWithoutOverflow() {
+            List<Integer> list = Arrays.asList(Integer.MAX_VALUE, Integer.MAX_VALUE);
+            assertEquals(2L * Integer.MAX_VALUE, sumInt(list, Integer::intValue));
+        }
+
+        @Test
+        @DisplayName("returns compensated sum of double values")
+        void returnsCompensatedSum() {
+            List<Double> list = Arrays.asList(1.0, 1e100, 1.0, -1e100, 0.5);
+            assertEquals(2.5, sumDouble(list, Double::doubleValue));
+            assertEquals(Double.POSITIVE_INFINITY, sumDouble(Arrays.asList(Double.MAX_VALUE, Double.MAX_VALUE), Double::doubleValue));
+        }
+    }
+
+    @Nested
+    @DisplayName("Min and max of collection")
+    class MinMax {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable comparator")
+        void forNullableComparator() {
+            assertThrows(NullPointerException.class, () -> minBy(null, null));
+            assertThrows(NullPointerException.class, () -> maxBy(null, null));
+        }
+
+        @Test
+        @DisplayName("returns empty optional for nullable collection")
+        void forNullableCollection() {
+            assertEquals(Optional.empty(), minBy(null, Comparator.<Integer>naturalOrder()));
+            assertEquals(Optional.empty(), maxBy(new ArrayList<Integer>(), Comparator.<Integer>naturalOrder()));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns min and max of collection")
+        void returnsMinAndMax(int size) {
+            List<Integer> list = getShuffledList(size, Function.identity());
+            assertEquals(Optional.of(1), minBy(list, Comparator.naturalOrder()));
+            assertEquals(Optional.of(size), maxBy(new LinkedList<>(list), Comparator.naturalOrder()));
+        }
+
+        @Test
+        @DisplayName("returns the first of equal items")
+        void returnsFirstOfEqualItems() {
+            List<String> list = Arrays.asList("bb", "a", "cc", "d");
+            assertEquals(Optional.of("a"), minBy(list, Comparator.comparingInt(String::length)));
+            assertEquals(Optional.of("bb"), maxBy(list, Comparator.comparingInt(String::length)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Quantiles of collection values")
+    class Quantiles {
+
+        @Test
+        @DisplayName("throws exception for invalid arguments")
+        void forInvalidArguments() {
+            assertThrows(NullPointerException.class, () -> quantiles(null, null, 0.5));
+            assertThrows(NullPointerException.class, () -> quantilesExact(null, null, 0.5));
+            assertThrows(NullPointerException.class, () -> quantiles(null, Organization::getId, (double[]) null));
+            assertThrows(NullPointerException.class, () -> quantilesExact(null, Organization::getId, (double[]) null));
+            assertThrows(IllegalArgumentException.class, () -> quantiles(null, Organization::getId, 1.5));
+            assertThrows(IllegalArgumentException.class, () -> quantilesExact(null, Organization::getId, -0.5));
+            assertThrows(IllegalArgumentException.class, () -> quantileSketch(null, Organization::getId, 1));
+        }
+
+        @Test
+        @DisplayName("returns NaN quantiles for nullable collection")
+        void forNullableCollection() {
+            assertArrayEquals(new double[]{Double.NaN, Double.NaN}, quantiles(null, Organization::getId, 0.0, 1.0));
+            assertArrayEquals(new double[]{Double.NaN}, quantilesExact(null, Organization::getId, 0.5));
+            assertEquals(0L, quantileSketch(null, Organization::getId, 8).getCount());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns nearest rank quantiles of collection values")
+        void returnsQuantiles(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            double[] qs = {0.99, 0.0, 0.5, 0.25, 1.0, 0.5};
+            double[] expected = new double[qs.length];
+            for (int i = 0; i < qs.length; i++) {
+                expected[i] = Math.max(1, Math.ceil(qs[i] * size));
+            }
+            assertArrayEquals(expected, quantilesExact(list, Organization::getId, qs));
+            assertArrayEquals(expected, quantiles(list, Organization::getId, qs));
+        }
+
+        @Test
+        @DisplayName("returns quantiles of values with duplicates")
+        void returnsQuantilesOfValuesWithDuplicates() {
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                list.add(i % 7);
+            }
+            Collections.shuffle(list, new Random(3));
+            assertArrayEquals(new double[]{0, 3, 6}, quantilesExact(list, Integer::doubleValue, 0.1, 0.5, 0.99));
+            assertThrows(IllegalArgumentException.class, () -> quantilesExact(Arrays.asList(1.0, Double.NaN), x -> x, 0.5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics of collection values")
+    class Stats {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable mapper")
+        void forNullableMapper() {
+            assertThrows(NullPointerException.class, () -> stats(null, null));
+        }
+
+        @Test
+        @DisplayName("returns empty statistics for nullable collection")
+        void forNullableCollection() {
+            assertEquals(0L, stats(null, Organization::getId).getCount());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns statistics of collection values")
+        void returnsStatistics(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            NumericStats result = stats(list, Organization::getId);
+            assertEquals(size, result.getCount());
+            assertEquals((double) size * (size + 1) / 2, result.getSum());
+            assertEquals(1.0, result.getMin());
+            assertEquals(size, result.getMax());
+            assertEquals((size + 1) / 2.0, result.getMean(), 1e-9);
+            assertEquals((size * (double) size - 1) / 12, result.getVariance(), 1e-9);
+        }
+    }
+}
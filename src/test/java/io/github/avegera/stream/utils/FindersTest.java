@@ -10,9 +10,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static io.github.avegera.stream.utils.Finders.*;
+import static io.github.avegera.stream.utils.test.PredicateUtils.ORG_WITH_EVEN_ID;
 import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
 import static io.github.avegera.stream.utils.test.TestUtils.getSet;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -321,4 +325,281 @@ class FindersTest {
             assertTrue(set.contains(result));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Find last")
+    class FindLast {
+
+        @Nested
+        @DisplayName("returns empty optional object")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Optional<Object> result = findLast(null);
+                assertFalse(result.isPresent());
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                Optional<Object> result = findLast(new ArrayList<>());
+                assertFalse(result.isPresent());
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                Optional<Object> result = findLast(new HashSet<>());
+                assertFalse(result.isPresent());
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns last item from list")
+        void returnsLastItemFromList(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Optional<Organization> result = findLast(list);
+            assertTrue(result.isPresent());
+            assertEquals(list.get(size - 1), result.get());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns last item from set")
+        void returnsLastItemFromSet(int size) {
+            Set<Organization> set = getSet(size, OrgUtils::getOrganization);
+            Optional<Organization> result = findLast(set);
+            assertTrue(result.isPresent());
+            assertEquals(new ArrayList<>(set).get(size - 1), result.get());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns last item from deque, sorted set and sequential list")
+        void returnsLastItemFromOrderedCollections(int size) {
+            List<Integer> list = getNaturalNumbers(size);
+            assertEquals(Optional.of(size), findLast(new LinkedList<>(list)));
+            assertEquals(Optional.of(size), findLast(new ArrayDeque<>(list)));
+            assertEquals(Optional.of(size), findLast(new TreeSet<>(list)));
+            assertEquals(Optional.of(size), findLast(Collections.unmodifiableList(new LinkedList<>(list))));
+            assertEquals(Optional.of(size), findLast(new LinkedHashSet<>(list)));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns first item from deque and sorted set")
+        void returnsFirstItemFromOrderedCollections(int size) {
+            List<Integer> list = getNaturalNumbers(size);
+            assertEquals(Optional.of(1), findFirst(new ArrayDeque<>(list)));
+            assertEquals(Optional.of(1), findFirst(new TreeSet<>(list)));
+            assertEquals(Optional.of(1), findAny(new TreeSet<>(list)));
+        }
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable item")
+        void forNullableItem() {
+            List<Object> list = Arrays.asList("a", null);
+            assertThrows(NullPointerException.class, () -> findLast(list));
+            assertThrows(NullPointerException.class, () -> findLastOrNull(new LinkedList<>(list)));
+            assertThrows(NullPointerException.class, () -> findFirst(Arrays.asList(null, "a")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find last or default")
+    class FindLastOrDefault {
+
+        @Test
+        @DisplayName("returns default value for nullable collection and empty list")
+        void forNullableCollectionAndEmptyList() {
+            Organization defaultValue = OrgUtils.getOrganization(0);
+            assertEquals(defaultValue, findLastOrDefault(null, defaultValue));
+            assertEquals(defaultValue, findLastOrDefault(new ArrayList<>(), defaultValue));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns last item from list")
+        void returnsLastItemFromList(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Organization result = findLastOrDefault(list, OrgUtils.getOrganization(0));
+            assertEquals(list.get(size - 1), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Find last or null")
+    class FindLastOrNull {
+
+        @Test
+        @DisplayName("returns null for nullable collection and empty set")
+        void forNullableCollectionAndEmptySet() {
+            assertNull(findLastOrNull(null));
+            assertNull(findLastOrNull(new HashSet<>()));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns last item from list")
+        void returnsLastItemFromList(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Organization result = findLastOrNull(list);
+            assertEquals(list.get(size - 1), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Find by predicate")
+    class FindByPredicate {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable predicate")
+        void forNullablePredicate() {
+            List<Organization> list = getList(10, OrgUtils::getOrganization);
+            assertThrows(NullPointerException.class, () -> findFirst(list, null));
+            assertThrows(NullPointerException.class, () -> findAny(list, null));
+        }
+
+        @Test
+        @DisplayName("returns empty result for nullable collection")
+        void forNullableCollection() {
+            Organization defaultValue = OrgUtils.getOrganization(0);
+            assertFalse(findFirst(null, ORG_WITH_EVEN_ID).isPresent());
+            assertFalse(findAny(null, ORG_WITH_EVEN_ID).isPresent());
+            assertNull(findFirstOrNull(null, ORG_WITH_EVEN_ID));
+            assertNull(findAnyOrNull(null, ORG_WITH_EVEN_ID));
+            assertEquals(defaultValue, findFirstOrDefault(null, ORG_WITH_EVEN_ID, defaultValue));
+            assertEquals(defaultValue, findAnyOrDefault(null, ORG_WITH_EVEN_ID, defaultValue));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns first matched item from list")
+        void returnsFirstMatchedItemFromList(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Organization expected = list.stream().filter(ORG_WITH_EVEN_ID).findFirst().orElse(null);
+            assertEquals(Optional.ofNullable(expected), findFirst(list, ORG_WITH_EVEN_ID));
+            assertEquals(Optional.ofNullable(expected), findAny(list, ORG_WITH_EVEN_ID));
+            assertEquals(expected, findFirstOrNull(list, ORG_WITH_EVEN_ID));
+            assertEquals(expected, findAnyOrNull(list, ORG_WITH_EVEN_ID));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns first matched item from set")
+        void returnsFirstMatchedItemFromSet(int size) {
+            Set<Integer> set = new LinkedHashSet<>(getNaturalNumbers(size));
+            assertEquals(Optional.of(size), findFirst(set, item -> item == size));
+            assertEquals(Integer.valueOf(size), findAnyOrDefault(set, item -> item >= size, 0));
+            assertEquals(Integer.valueOf(0), findFirstOrDefault(set, item -> item > size, 0));
+        }
+
+        @Test
+        @DisplayName("stops at the first matched item")
+        void stopsAtFirstMatchedItem() {
+            List<Integer> tested = new ArrayList<>();
+            findFirst(getNaturalNumbers(100), item -> tested.add(item) && item == 3);
+            assertEquals(Arrays.asList(1, 2, 3), tested);
+        }
+    }
+
+    @Nested
+    @DisplayName("Find in sorted list")
+    class FindInSorted {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable key extractor")
+        void forNullableKeyExtractor() {
+            List<Integer> list = getNaturalNumbers(10);
+            assertThrows(NullPointerException.class, () -> findInSorted(list, 1, null));
+            assertThrows(NullPointerException.class, () -> findInSorted(list, 1, Function.identity(), null));
+            assertThrows(NullPointerException.class, () -> findInSortedByInt(list, 1, null));
+            assertThrows(NullPointerException.class, () -> findInSortedByLong(list, 1L, null));
+        }
+
+        @Test
+        @DisplayName("returns empty optional object for nullable and empty list")
+        void forNullableAndEmptyList() {
+            assertFalse(findInSorted(null, 1, Function.identity()).isPresent());
+            assertFalse(findInSortedByInt(new ArrayList<Integer>(), 1, Integer::intValue).isPresent());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns item by key")
+        void returnsItemByKey(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            for (int id = 0; id <= size + 1; id++) {
+                Optional<Organization> expected = id >= 1 && id <= size ? Optional.of(list.get(id - 1)) : Optional.empty();
+                assertEquals(expected, findInSorted(list, id, Organization::getId));
+                assertEquals(expected, findInSortedByInt(list, id, Organization::getId));
+                assertEquals(expected, findInSortedByLong(new LinkedList<>(list), id, Organization::getId));
+            }
+        }
+
+        @Test
+        @DisplayName("returns the first item of equal keys")
+        void returnsFirstItemOfEqualKeys() {
+            List<String> list = Arrays.asList("c", "bb", "aa", "dd", "eee");
+            assertEquals(Optional.of("bb"), findInSorted(list, 2, String::length));
+            assertEquals(Optional.of("eee"), findInSorted(list, "eee", Function.identity(),
+                    Comparator.comparingInt(String::length)));
+            assertEquals(Optional.of("c"), findInSortedByLong(list, 1L, String::length));
+        }
+    }
+
+    @Nested
+    @DisplayName("Range in sorted list")
+    class RangeInSorted {
+
+        @Test
+        @DisplayName("throws exception for invalid arguments")
+        void forInvalidArguments() {
+            List<Integer> list = getNaturalNumbers(10);
+            assertThrows(NullPointerException.class, () -> rangeInSorted(list, 1, 2, null));
+            assertThrows(NullPointerException.class, () -> rangeInSorted(list, 1, 2, Function.identity(), null));
+            assertThrows(NullPointerException.class, () -> rangeInSorted(null, 1, 2, Function.identity(), null));
+            assertThrows(NullPointerException.class, () -> rangeInSortedByInt(list, 1, 2, null));
+            assertThrows(NullPointerException.class, () -> rangeInSortedByLong(list, 1L, 2L, null));
+            assertThrows(IllegalArgumentException.class, () -> rangeInSorted(list, 2, 1, Function.identity()));
+            assertThrows(IllegalArgumentException.class, () -> rangeInSortedByInt(list, 2, 1, Integer::intValue));
+            assertThrows(IllegalArgumentException.class, () -> rangeInSortedByLong(list, 2L, 1L, Integer::longValue));
+        }
+
+        @Test
+        @DisplayName("returns empty list for nullable list")
+        void forNullableList() {
+            assertTrue(rangeInSorted(null, 1, 2, Function.identity()).isEmpty());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns items with keys from the half-open range")
+        void returnsItemsFromRange(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            int from = size / 3;
+            int to = size / 2 + 1;
+            List<Organization> expected = list.stream()
+                    .filter(org -> org.getId() >= from && org.getId() < to)
+                    .collect(Collectors.toList());
+            assertEquals(expected, rangeInSorted(list, from, to, Organization::getId));
+            assertEquals(expected, rangeInSortedByInt(list, from, to, Organization::getId));
+            assertEquals(expected, rangeInSortedByLong(new LinkedList<>(list), from, to, Organization::getId));
+            assertEquals(list, rangeInSortedByInt(list, 0, size + 1, Organization::getId));
+            assertTrue(rangeInSortedByInt(list, size + 1, size + 2, Organization::getId).isEmpty());
+        }
+
+        @Test
+        @DisplayName("returns view of the list")
+        void returnsViewOfList() {
+            List<Integer> list = new ArrayList<>(getNaturalNumbers(10));
+            List<Integer> range = rangeInSorted(list, 3, 6, Function.identity(), Comparator.naturalOrder());
+            assertEquals(Arrays.asList(3, 4, 5), range);
+            range.set(0, 30);
+            assertEquals(Integer.valueOf(30), list.get(2));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.avegera.stream.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static io.github.avegera.stream.utils.test.TestUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHittersTest {
+
+    @Nested
+    @DisplayName("Create summary")
+    class Create {
+
+        @Test
+        @DisplayName("throws illegal argument exception for non-positive capacity")
+        void throwsExceptionForNonPositiveCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new HeavyHitters<>(0));
+        }
+
+        @Test
+        @DisplayName("returns empty top for empty summary")
+        void returnsEmptyTopForEmptySummary() {
+            HeavyHitters<String> summary = new HeavyHitters<>(3);
+            assertEquals(3, summary.getCapacity());
+            assertEquals(0L, summary.getTotal());
+            assertTrue(summary.topK(5).isEmpty());
+            assertEquals("HeavyHitters{capacity=3, total=0, top=[]}", summary.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Add keys")
+    class Add {
+
+        @Test
+        @DisplayName("throws exception for negative count and negative k")
+        void throwsExceptionForNegativeArguments() {
+            HeavyHitters<String> summary = new HeavyHitters<>(3);
+            assertThrows(IllegalArgumentException.class, () -> summary.add("a", -1));
+            assertThrows(IllegalArgumentException.class, () -> summary.topK(-1));
+        }
+
+        @Test
+        @DisplayName("returns exact counts below capacity")
+        void returnsExactCountsBelowCapacity() {
+            HeavyHitters<String> summary = new HeavyHitters<>(10);
+            for (String key : Arrays.asList("a", "b", "a", "c", "a", "b", null)) {
+                summary.add(key);
+            }
+            summary.add("c", 5);
+            List<HeavyHitters.Entry<String>> top = summary.topK(2);
+            assertEquals(Arrays.asList(new HeavyHitters.Entry<>("c", 6, 0), new HeavyHitters.Entry<>("a", 3, 0)), top);
+            assertEquals(12L, summary.getTotal());
+            assertEquals(4, summary.topK(10).size());
+            assertEquals("c=6", top.get(0).toString());
+        }
+
+        @Test
+        @DisplayName("returns the frequent keys with bounded error above capacity")
+        void returnsFrequentKeysAboveCapacity() {
+            HeavyHitters<Integer> summary = new HeavyHitters<>(20);
+            Map<Integer, Long> exact = new HashMap<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 20_000; i++) {
+                int key = i % 4 == 0 ? i % 3 : random.nextInt(1000) + 10;
+                summary.add(key);
+                exact.merge(key, 1L, Long::sum);
+            }
+            List<HeavyHitters.Entry<Integer>> top = summary.topK(3);
+            assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), new HashSet<>(Arrays.asList(
+                    top.get(0).getKey(), top.get(1).getKey(), top.get(2).getKey())));
+            for (HeavyHitters.Entry<Integer> entry : summary.topK(20)) {
+                long count = exact.get(entry.getKey());
+                assertTrue(entry.getLowerBound() <= count && count <= entry.getCount(), entry.toString());
+                assertTrue(entry.getError() <= summary.getTotal() / 20);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Merge summaries")
+    class Merge {
+
+        @Test
+        @DisplayName("returns exact counts of not full summaries")
+        void returnsExactCountsOfNotFullSummaries() {
+            HeavyHitters<String> first = new HeavyHitters<>(10);
+            HeavyHitters<String> second = new HeavyHitters<>(10);
+            first.add("a", 5);
+            first.add("b", 2);
+            second.add("b", 4);
+            second.add("c", 1);
+            assertSame(first, first.merge(second));
+            assertEquals(Arrays.asList(new HeavyHitters.Entry<>("b", 6, 0), new HeavyHitters.Entry<>("a", 5, 0),
+                    new HeavyHitters.Entry<>("c", 1, 0)), first.topK(3));
+            assertEquals(12L, first.getTotal());
+        }
+
+        @Test
+        @DisplayName("returns bounded counts of full summaries")
+        void returnsBoundedCountsOfFullSummaries() {
+            HeavyHitters<Integer> first = new HeavyHitters<>(3);
+            HeavyHitters<Integer> second = new HeavyHitters<>(3);
+            Map<Integer, Long> exact = new HashMap<>();
+            for (int i = 0; i < 1000; i++) {
+                int key = i % 2 == 0 ? 0 : i % 7;
+                (i < 500 ? first : second).add(key);
+                exact.merge(key, 1L, Long::sum);
+            }
+            first.merge(second);
+            List<HeavyHitters.Entry<Integer>> top = first.topK(3);
+            assertEquals(3, top.size());
+            assertEquals(0, top.get(0).getKey());
+            for (HeavyHitters.Entry<Integer> entry : top) {
+                long count = exact.get(entry.getKey());
+                assertTrue(entry.getLowerBound() <= count && count <= entry.getCount(), entry.toString());
+            }
+            first.add(100);
+            assertEquals(1001L, first.getTotal());
+        }
+
+        @Test
+        @DisplayName("returns empty summary for empty summaries")
+        void returnsEmptySummaryForEmptySummaries() {
+            HeavyHitters<String> summary = new HeavyHitters<String>(2).merge(new HeavyHitters<>(2));
+            assertTrue(summary.topK(2).isEmpty());
+            summary.add("a");
+            assertEquals(1, summary.topK(2).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Entry of summary")
+    class EntryOfSummary {
+
+        @Test
+        @DisplayName("returns bounds and equality")
+        void returnsBoundsAndEquality() {
+            HeavyHitters.Entry<String> entry = new HeavyHitters.Entry<>("a", 10, 3);
+            assertEquals("a", entry.getKey());
+            assertEquals(10L, entry.getCount());
+            assertEquals(3L, entry.getError());
+            assertEquals(7L, entry.getLowerBound());
+            assertEquals("a=10 (error 3)", entry.toString());
+            assertEquals(entry, entry);
+            assertEquals(entry, new HeavyHitters.Entry<>("a", 10, 3));
+            assertEquals(entry.hashCode(), new HeavyHitters.Entry<>("a", 10, 3).hashCode());
+            assertNotEquals(entry, new HeavyHitters.Entry<>("b", 10, 3));
+            assertNotEquals(entry, new HeavyHitters.Entry<>("a", 11, 3));
+            assertNotEquals(entry, new HeavyHitters.Entry<>("a", 10, 2));
+            assertNotEquals(entry, "a");
+        }
+
+        @Test
+        @DisplayName("returns equal top after serialization")
+        void returnsEqualTopAfterSerialization() {
+            HeavyHitters<String> summary = new HeavyHitters<>(2);
+            for (String key : Arrays.asList("a", "b", "c", "a")) {
+                summary.add(key);
+            }
+            HeavyHitters<String> deserialized = serializeAndDeserialize(summary);
+            assertEquals(summary.topK(2), deserialized.topK(2));
+            deserialized.add("a");
+            assertEquals(3L, deserialized.topK(1).get(0).getCount());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.avegera.stream.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.avegera.stream.utils.test.TestUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Nested
+    @DisplayName("Create sketch")
+    class Create {
+
+        @ParameterizedTest(name = "for precision = {0}")
+        @ValueSource(ints = {-1, 0, 3, 19})
+        @DisplayName("throws illegal argument exception for precision out of range")
+        void throwsExceptionForPrecisionOutOfRange(int precision) {
+            assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(precision));
+        }
+
+        @Test
+        @DisplayName("returns zero estimate for empty sketch")
+        void returnsZeroEstimateForEmptySketch() {
+            HyperLogLog sketch = new HyperLogLog();
+            assertEquals(HyperLogLog.DEFAULT_PRECISION, sketch.getPrecision());
+            assertEquals(0L, sketch.estimate());
+            assertEquals("HyperLogLog{precision=14, estimate=0}", sketch.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Estimate distinct count")
+    class Estimate {
+
+        @ParameterizedTest(name = "for count = {0}")
+        @ValueSource(ints = {1, 10, 100, 1000})
+        @DisplayName("returns almost exact estimate for small count")
+        void returnsAlmostExactEstimateForSmallCount(int count) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < count; i++) {
+                sketch.add(i);
+                sketch.add(i);
+            }
+            assertEquals(count, sketch.estimate(), Math.max(1, count * 0.01));
+        }
+
+        @ParameterizedTest(name = "for precision = {0}")
+        @ValueSource(ints = {4, 5, 6, 10, 14, 18})
+        @DisplayName("returns estimate within the error bound for large count")
+        void returnsEstimateWithinErrorBound(int precision) {
+            int count = 200_000;
+            HyperLogLog sketch = new HyperLogLog(precision);
+            for (long i = 0; i < count; i++) {
+                sketch.addLong(i * 1_000_003L);
+            }
+            double error = 1.04 / Math.sqrt(1 << precision);
+            assertEquals(count, sketch.estimate(), count * error * 4);
+        }
+
+        @Test
+        @DisplayName("returns estimate for 64-bit keys with equal hash codes")
+        void returnsEstimateForKeysWithEqualHashCodes() {
+            int count = 100_000;
+            HyperLogLog sketch = new HyperLogLog();
+            for (long i = 0; i < count; i++) {
+                sketch.add(i << 32 | i);
+            }
+            assertEquals(count, sketch.estimate(), count * 0.03);
+        }
+
+        @Test
+        @DisplayName("counts strings and byte arrays by content")
+        void countsStringsAndByteArraysByContent() {
+            int count = 100_000;
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < count; i++) {
+                sketch.add("key" + i);
+                sketch.add(("key" + i).getBytes(StandardCharsets.UTF_8));
+                sketch.add(("key" + i).getBytes(StandardCharsets.UTF_8));
+            }
+            assertEquals(2 * count, sketch.estimate(), 2 * count * 0.03);
+        }
+
+        @Test
+        @DisplayName("counts equal integral numbers once")
+        void countsEqualIntegralNumbersOnce() {
+            HyperLogLog sketch = new HyperLogLog();
+            sketch.add(5L);
+            sketch.add(5);
+            sketch.add((short) 5);
+            sketch.add((byte) 5);
+            sketch.addLong(5);
+            assertEquals(1L, sketch.estimate());
+        }
+
+        @Test
+        @DisplayName("returns the same registers for enums in every JVM")
+        void returnsSameRegistersForEnums() {
+            HyperLogLog sketch = new HyperLogLog(4);
+            for (TimeUnit unit : TimeUnit.values()) {
+                sketch.add(unit);
+            }
+            assertArrayEquals(new byte[]{4, 0, 0, 0, 2, 1, 0, 0, 0, 0, 1, 0, 0, 0, 2, 1, 1}, sketch.toByteArray());
+        }
+
+        @Test
+        @DisplayName("counts nullable item once")
+        void countsNullableItemOnce() {
+            HyperLogLog sketch = new HyperLogLog();
+            sketch.add(null);
+            sketch.add(null);
+            assertEquals(1L, sketch.estimate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Hash items")
+    class Hash {
+
+        @Test
+        @DisplayName("returns MurmurHash3 of bytes")
+        void returnsMurmurHashOfBytes() {
+            assertEquals(0L, Hashing.murmur3(new byte[0]));
+            byte[] bytes = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+            assertEquals(0xe34bbc7bbc071b6cL, Hashing.murmur3(bytes));
+        }
+
+        @Test
+        @DisplayName("returns MurmurHash3 of UTF-16LE bytes for string")
+        void returnsMurmurHashOfString() {
+            StringBuilder builder = new StringBuilder();
+            for (int length = 0; length < 40; length++) {
+                String string = builder.toString();
+                assertEquals(Hashing.murmur3(string.getBytes(StandardCharsets.UTF_16LE)), Hashing.murmur3(string));
+                builder.append((char) ('\u0410' + length));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Merge sketches")
+    class Merge {
+
+        @Test
+        @DisplayName("returns the sketch of the union")
+        void returnsSketchOfUnion() {
+            HyperLogLog first = new HyperLogLog(12);
+            HyperLogLog second = new HyperLogLog(12);
+            HyperLogLog union = new HyperLogLog(12);
+            for (int i = 0; i < 30_000; i++) {
+                first.add(i);
+                union.add(i);
+            }
+            for (int i = 20_000; i < 50_000; i++) {
+                second.add(i);
+                union.add(i);
+            }
+            assertSame(first, first.merge(second));
+            assertEquals(union, first);
+            assertEquals(union.hashCode(), first.hashCode());
+            assertEquals(50_000, first.estimate(), 50_000 * 0.05);
+        }
+
+        @Test
+        @DisplayName("throws illegal argument exception for different precision")
+        void throwsExceptionForDifferentPrecision() {
+            assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(12).merge(new HyperLogLog(14)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialize sketch")
+    class Serialize {
+
+        @Test
+        @DisplayName("returns equal sketch after serialization")
+        void returnsEqualSketchAfterSerialization() {
+            HyperLogLog sketch = new HyperLogLog(10);
+            for (int i = 0; i < 5000; i++) {
+                sketch.add("key" + i);
+            }
+            HyperLogLog deserialized = serializeAndDeserialize(sketch);
+            assertEquals(sketch, deserialized);
+            assertEquals(sketch.estimate(), deserialized.estimate());
+        }
+
+        @Test
+        @DisplayName("returns equal sketch from byte array")
+        void returnsEqualSketchFromByteArray() {
+            HyperLogLog sketch = new HyperLogLog(6);
+            for (int i = 0; i < 500; i++) {
+                sketch.add(i);
+            }
+            byte[] bytes = sketch.toByteArray();
+            assertEquals(65, bytes.length);
+            assertEquals(sketch, HyperLogLog.fromByteArray(bytes));
+        }
+
+        @Test
+        @DisplayName("throws illegal argument exception for malformed byte array")
+        void throwsExceptionForMalformedByteArray() {
+            assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromByteArray(new byte[0]));
+            assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromByteArray(new byte[]{2, 0, 0, 0, 0}));
+            assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromByteArray(new byte[]{4, 0, 0}));
+        }
+
+        @Test
+        @DisplayName("returns equality by precision and registers")
+        void returnsEqualityByPrecisionAndRegisters() {
+            HyperLogLog sketch = new HyperLogLog(4);
+            assertEquals(sketch, sketch);
+            assertNotEquals(sketch, new HyperLogLog(5));
+            assertNotEquals(sketch, "sketch");
+            HyperLogLog other = new HyperLogLog(4);
+            other.add(1);
+            assertNotEquals(sketch, other);
+        }
+    }
+}
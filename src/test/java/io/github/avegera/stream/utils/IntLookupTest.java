@@ -0,0 +1,100 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+
+import static io.github.avegera.stream.utils.Finders.indexByInt;
+import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntLookupTest {
+
+    @Nested
+    @DisplayName("Index of collection items by int key")
+    class Index {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable key extractor")
+        void forNullableKeyExtractor() {
+            assertThrows(NullPointerException.class, () -> indexByInt(null, null));
+        }
+
+        @Test
+        @DisplayName("returns empty lookup for nullable collection")
+        void forNullableCollection() {
+            IntLookup<Organization> lookup = indexByInt(null, Organization::getId);
+            assertTrue(lookup.isEmpty());
+            assertNull(lookup.get(0));
+            assertNull(lookup.get(1));
+            assertFalse(lookup.find(1).isPresent());
+            assertTrue(lookup.getAll(0).isEmpty());
+            assertFalse(lookup.containsKey(1));
+            assertEquals("IntLookup{keys=0}", lookup.toString());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns item by unique key")
+        void returnsItemByUniqueKey(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            IntLookup<Organization> lookup = indexByInt(list, org -> org.getId() - 1);
+            assertEquals(size, lookup.size());
+            assertFalse(lookup.isEmpty());
+            for (Organization org : list) {
+                assertSame(org, lookup.get(org.getId() - 1));
+                assertEquals(Optional.of(org), lookup.find(org.getId() - 1));
+                assertEquals(Collections.singletonList(org), lookup.getAll(org.getId() - 1));
+                assertTrue(lookup.containsKey(org.getId() - 1));
+            }
+            assertNull(lookup.get(size));
+            assertNull(lookup.get(-1));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns items by repeated key in encounter order")
+        void returnsItemsByRepeatedKey(int size) {
+            List<Integer> list = getNaturalNumbers(size);
+            IntLookup<Integer> lookup = indexByInt(list, item -> item % 3);
+            assertEquals(Math.min(size, 3), lookup.size());
+            for (int key = 0; key < 3; key++) {
+                int remainder = key;
+                List<Integer> expected = new ArrayList<>();
+                list.stream().filter(item -> item % 3 == remainder).forEach(expected::add);
+                assertEquals(expected, lookup.getAll(key));
+                assertEquals(expected.isEmpty() ? null : expected.get(0), lookup.get(key));
+            }
+        }
+
+        @Test
+        @DisplayName("returns null items and colliding keys")
+        void returnsNullItemsAndCollidingKeys() {
+            Random random = new Random(17);
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                list.add(random.nextInt());
+            }
+            list.add(null);
+            IntLookup<Integer> lookup = indexByInt(list, item -> item == null ? 7 : item);
+            assertEquals(new HashSet<>(list).size(), lookup.size());
+            for (Integer item : list) {
+                if (item != null) {
+                    assertEquals(item, lookup.get(item));
+                    assertFalse(lookup.containsKey(item + 1));
+                }
+            }
+            assertTrue(lookup.containsKey(7));
+            assertNull(lookup.get(7));
+            assertEquals(Collections.singletonList(null), lookup.getAll(7));
+        }
+    }
+}
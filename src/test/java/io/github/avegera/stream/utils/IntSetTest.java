@@ -0,0 +1,197 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static io.github.avegera.stream.utils.test.TestUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSetTest {
+
+    @Nested
+    @DisplayName("Create int set")
+    class Create {
+
+        @Test
+        @DisplayName("throws illegal argument exception for negative expected size")
+        void throwsExceptionForNegativeExpectedSize() {
+            assertThrows(IllegalArgumentException.class, () -> new IntSet(-1));
+        }
+
+        @Test
+        @DisplayName("returns empty set without values")
+        void returnsEmptySet() {
+            IntSet set = new IntSet();
+            assertTrue(set.isEmpty());
+            assertEquals(0, set.size());
+            assertFalse(set.contains(0));
+            assertFalse(set.contains(1));
+            assertFalse(set.iterator().hasNext());
+            assertThrows(NoSuchElementException.class, () -> set.iterator().nextInt());
+            assertEquals("[]", set.toString());
+        }
+
+        @Test
+        @DisplayName("returns set of distinct values")
+        void returnsSetOfDistinctValues() {
+            IntSet set = IntSet.of(3, 1, 0, 3, -7, 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            assertEquals(6, set.size());
+            assertFalse(set.isEmpty());
+            assertEquals(new HashSet<>(Arrays.asList(3, 1, 0, -7, Integer.MIN_VALUE, Integer.MAX_VALUE)), toSet(set));
+        }
+    }
+
+    @Nested
+    @DisplayName("Add value to int set")
+    class Add {
+
+        @Test
+        @DisplayName("returns true only for a new value")
+        void returnsTrueOnlyForNewValue() {
+            IntSet set = new IntSet();
+            assertTrue(set.add(0));
+            assertFalse(set.add(0));
+            assertTrue(set.add(42));
+            assertFalse(set.add(42));
+            assertEquals(2, set.size());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("grows the table and keeps all values")
+        void growsTable(int size) {
+            IntSet set = new IntSet();
+            for (int i = 0; i < size * 100; i++) {
+                set.add(i * 31);
+            }
+            assertEquals(size * 100, set.size());
+            for (int i = -size * 100; i < size * 100 * 31; i++) {
+                assertEquals(i >= 0 && i % 31 == 0, set.contains(i));
+            }
+        }
+
+        @Test
+        @DisplayName("returns true if other set changes this set")
+        void addAll() {
+            IntSet set = IntSet.of(1, 2);
+            assertTrue(set.addAll(IntSet.of(0, 2, 3)));
+            assertFalse(set.addAll(IntSet.of(0, 1)));
+            assertFalse(set.addAll(new IntSet()));
+            assertEquals(IntSet.of(0, 1, 2, 3), set);
+        }
+    }
+
+    @Nested
+    @DisplayName("Combine int sets")
+    class Combine {
+
+        @Test
+        @DisplayName("returns union of sets without changing them")
+        void returnsUnion() {
+            IntSet left = IntSet.of(0, 1, 2);
+            IntSet right = IntSet.of(2, 3, 4, 5);
+            assertEquals(IntSet.of(0, 1, 2, 3, 4, 5), left.union(right));
+            assertEquals(IntSet.of(0, 1, 2, 3, 4, 5), right.union(left));
+            assertEquals(IntSet.of(0, 1, 2), left);
+            assertEquals(IntSet.of(2, 3, 4, 5), right);
+        }
+
+        @Test
+        @DisplayName("returns intersection of sets without changing them")
+        void returnsIntersection() {
+            IntSet left = IntSet.of(0, 1, 2, 3);
+            IntSet right = IntSet.of(0, 2, 3, 4, 5);
+            assertEquals(IntSet.of(0, 2, 3), left.intersection(right));
+            assertEquals(IntSet.of(0, 2, 3), right.intersection(left));
+            assertEquals(IntSet.of(2), IntSet.of(1, 2).intersection(IntSet.of(0, 2)));
+            assertTrue(left.intersection(new IntSet()).isEmpty());
+            assertEquals(IntSet.of(0, 1, 2, 3), left);
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterate int set")
+    class Iterate {
+
+        @Test
+        @DisplayName("returns all values by iterator, for each, stream and array")
+        void returnsAllValues() {
+            IntSet set = IntSet.of(0, 5, -5, 100);
+            Set<Integer> expected = new HashSet<>(Arrays.asList(0, 5, -5, 100));
+
+            Set<Integer> iterated = new HashSet<>();
+            PrimitiveIterator.OfInt iterator = set.iterator();
+            while (iterator.hasNext()) {
+                iterated.add(iterator.nextInt());
+            }
+            assertThrows(NoSuchElementException.class, iterator::nextInt);
+            assertEquals(expected, iterated);
+
+            Set<Integer> forEach = new HashSet<>();
+            set.forEach(forEach::add);
+            assertEquals(expected, forEach);
+
+            assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+            int[] array = set.toArray();
+            Arrays.sort(array);
+            assertArrayEquals(new int[]{-5, 0, 5, 100}, array);
+        }
+
+        @Test
+        @DisplayName("returns values without zero")
+        void returnsValuesWithoutZero() {
+            IntSet set = IntSet.of(1, 2);
+            assertEquals(new HashSet<>(Arrays.asList(1, 2)), toSet(set));
+            assertEquals(2, set.toArray().length);
+            String string = set.toString();
+            assertTrue("[1, 2]".equals(string) || "[2, 1]".equals(string), string);
+        }
+    }
+
+    @Nested
+    @DisplayName("Compare int sets")
+    class Compare {
+
+        @Test
+        @DisplayName("returns equality by values")
+        void returnsEqualityByValues() {
+            IntSet set = IntSet.of(0, 1, 2);
+            assertEquals(set, set);
+            assertEquals(set, IntSet.of(2, 1, 0));
+            assertNotEquals(set, IntSet.of(1, 2));
+            assertNotEquals(set, IntSet.of(1, 2, 3));
+            assertNotEquals(IntSet.of(1, 2, 3), IntSet.of(0, 1, 2));
+            assertNotEquals(set, new HashSet<>(Arrays.asList(0, 1, 2)));
+        }
+
+        @Test
+        @DisplayName("returns hash code of the set of boxed values")
+        void returnsHashCodeOfBoxedSet() {
+            IntSet set = IntSet.of(0, -1, 7, Integer.MAX_VALUE);
+            assertEquals(new HashSet<>(Arrays.asList(0, -1, 7, Integer.MAX_VALUE)).hashCode(), set.hashCode());
+            assertEquals(set.hashCode(), IntSet.of(Integer.MAX_VALUE, 7, -1, 0).hashCode());
+        }
+
+        @Test
+        @DisplayName("returns equal set after serialization")
+        void returnsEqualSetAfterSerialization() {
+            IntSet set = IntSet.of(0, 1, 2, 1000);
+            IntSet deserialized = serializeAndDeserialize(set);
+            assertEquals(set, deserialized);
+            assertTrue(deserialized.add(3));
+        }
+    }
+
+    private static Set<Integer> toSet(IntSet set) {
+        Set<Integer> result = new HashSet<>();
+        set.forEach(result::add);
+        return result;
+    }
+}
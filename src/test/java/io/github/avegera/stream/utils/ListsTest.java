@@ -13,13 +13,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import static io.github.avegera.stream.utils.Lists.*;
 import static io.github.avegera.stream.utils.test.StreamAssertions.assertCollectionIsEmpty;
 import static io.github.avegera.stream.utils.test.StreamAssertions.assertEqualsIgnoringOrder;
 import static io.github.avegera.stream.utils.test.TestUtils.*;
 import static java.util.Comparator.comparingInt;
+import static java.util.Comparator.comparingLong;
 import static java.util.function.Function.identity;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -41,6 +46,12 @@ class ListsTest {
                 List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
                 assertThrows(NullPointerException.class, () -> map(list, null));
             }
+
+            @Test
+            @DisplayName("for nullable mapper and nullable collection")
+            void forNullableMapperAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> map(null, null));
+            }
         }
 
         @Nested
@@ -86,6 +97,195 @@ class ListsTest {
             List<Organization> result = map(list, identity());
             assertEquals(list, result);
         }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of mapped objects for linked list")
+        void returnsListOfMappedObjectsForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            List<Integer> result = map(collection, Organization::getId);
+            assertEquals(getNaturalNumbers(size), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Map collection to int array")
+    class MapToInt {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable mapper")
+            void forNullableMapper() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> mapToInt(list, null));
+            }
+
+            @Test
+            @DisplayName("for nullable mapper and nullable collection")
+            void forNullableMapperAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> mapToInt(null, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty array")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                int[] result = mapToInt(null, Organization::getId);
+                assertEquals(0, result.length);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                int[] result = mapToInt(new ArrayList<Organization>(), Organization::getId);
+                assertEquals(0, result.length);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the array of mapped values")
+        void returnsArrayOfMappedValues(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            int[] result = mapToInt(list, Organization::getId);
+            assertArrayEquals(getNaturalNumbers(size).stream().mapToInt(Integer::intValue).toArray(), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the array of mapped values for linked list")
+        void returnsArrayOfMappedValuesForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            int[] result = mapToInt(collection, Organization::getId);
+            assertArrayEquals(getNaturalNumbers(size).stream().mapToInt(Integer::intValue).toArray(), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Map collection to long array")
+    class MapToLong {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable mapper")
+            void forNullableMapper() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> mapToLong(list, null));
+            }
+
+            @Test
+            @DisplayName("for nullable mapper and nullable collection")
+            void forNullableMapperAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> mapToLong(null, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty array")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                long[] result = mapToLong(null, Organization::getId);
+                assertEquals(0, result.length);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                long[] result = mapToLong(new ArrayList<Organization>(), Organization::getId);
+                assertEquals(0, result.length);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the array of mapped values")
+        void returnsArrayOfMappedValues(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            long[] result = mapToLong(list, Organization::getId);
+            assertArrayEquals(getNaturalNumbers(size).stream().mapToLong(Integer::longValue).toArray(), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the array of mapped values for linked list")
+        void returnsArrayOfMappedValuesForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            long[] result = mapToLong(collection, Organization::getId);
+            assertArrayEquals(getNaturalNumbers(size).stream().mapToLong(Integer::longValue).toArray(), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Map collection to double array")
+    class MapToDouble {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable mapper")
+            void forNullableMapper() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> mapToDouble(list, null));
+            }
+
+            @Test
+            @DisplayName("for nullable mapper and nullable collection")
+            void forNullableMapperAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> mapToDouble(null, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty array")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                double[] result = mapToDouble(null, Organization::getId);
+                assertEquals(0, result.length);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                double[] result = mapToDouble(new ArrayList<Organization>(), Organization::getId);
+                assertEquals(0, result.length);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the array of mapped values")
+        void returnsArrayOfMappedValues(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            double[] result = mapToDouble(list, Organization::getId);
+            assertArrayEquals(getNaturalNumbers(size).stream().mapToDouble(Integer::doubleValue).toArray(), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the array of mapped values for linked list")
+        void returnsArrayOfMappedValuesForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            double[] result = mapToDouble(collection, Organization::getId);
+            assertArrayEquals(getNaturalNumbers(size).stream().mapToDouble(Integer::doubleValue).toArray(), result);
+        }
     }
 
     @Nested
@@ -102,6 +302,12 @@ class ListsTest {
                 List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
                 assertThrows(NullPointerException.class, () -> filter(list, null));
             }
+
+            @Test
+            @DisplayName("for nullable predicate and nullable collection")
+            void forNullablePredicateAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> filter(null, null));
+            }
         }
 
         @Nested
@@ -140,6 +346,36 @@ class ListsTest {
             List<Organization> expected = getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
             assertEquals(expected, result);
         }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of filtered objects for linked list")
+        void returnsListOfFilteredObjectsForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            List<Organization> result = filter(collection, PredicateUtils.ORG_WITH_EVEN_ID);
+
+            List<Organization> expected = getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("returns the modifiable array list")
+        void returnsModifiableArrayList() {
+            List<Integer> result = filter(getIntegers(TEST_FIXED_SIZE), i -> i < 3);
+            assertEquals(ArrayList.class, result.getClass());
+            result.add(3);
+            assertEquals(Arrays.asList(1, 2, 3), result);
+        }
+
+        @Test
+        @DisplayName("returns all matched objects for selective predicate")
+        void returnsAllMatchedObjectsForSelectivePredicate() {
+            List<Integer> result = filter(getIntegers(10_000), i -> i % 100 == 0);
+            assertEquals(100, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                assertEquals(100 * (i + 1), result.get(i));
+            }
+        }
     }
 
     @Nested
@@ -208,6 +444,12 @@ class ListsTest {
                 List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganizationWithAddresses);
                 assertThrows(NullPointerException.class, () -> flatMapCollections(list, null));
             }
+
+            @Test
+            @DisplayName("for nullable flat mapper and nullable collection")
+            void forNullableMapperAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> flatMapCollections(null, null));
+            }
         }
 
         @Nested
@@ -244,6 +486,24 @@ class ListsTest {
             List<Address> addresses = flatMapCollections(collection, Organization::getAddresses);
             Assertions.assertEquals(mergeListsForEachSize(size, OrgUtils::getAddress), addresses);
         }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of flat mapped objects from linked lists")
+        void returnsListOfFlatMappedObjectsFromLinkedLists(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganizationWithAddresses));
+            List<Address> addresses = flatMapCollections(collection, org -> new LinkedList<>(org.getAddresses()));
+            assertEquals(mergeListsForEachSize(size, OrgUtils::getAddress), addresses);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("skips nullable and empty collections")
+        void skipsNullableAndEmptyCollections(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Address> addresses = flatMapCollections(list, org -> org.getId() % 2 == 0 ? null : new ArrayList<>());
+            assertCollectionIsEmpty(addresses);
+        }
     }
 
     @Nested
@@ -384,4 +644,495 @@ class ListsTest {
             assertEquals(expected, result);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Sort a collection to list by key")
+    class SortByKey {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable key extractor")
+            void forNullableKeyExtractor() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> sortBy(list, (Function<Organization, Integer>) null));
+            }
+
+            @Test
+            @DisplayName("for nullable key comparator")
+            void forNullableKeyComparator() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> sortBy(list, Organization::getId, null));
+            }
+
+            @Test
+            @DisplayName("for nullable key extractor and nullable collection")
+            void forNullableKeyExtractorAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> sortBy(null, (Function<Object, Integer>) null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Object> result = sortBy(null, Object::hashCode);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                List<Object> result = sortBy(new HashSet<>(), Object::hashCode);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a list sorted by natural order of keys")
+        void returnsListSortedByNaturalOrderOfKeys(int size) {
+            Set<Organization> set = getSet(size, OrgUtils::getOrganization);
+            List<Organization> result = sortBy(set, Organization::getId);
+            assertEquals(getList(size, OrgUtils::getOrganization), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the same order for already sorted list")
+        void returnsSameOrderForAlreadySortedList(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Organization> result = sortBy(list, Organization::getId);
+            assertEquals(list, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a list sorted by key comparator")
+        void returnsListSortedByKeyComparator(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = sortBy(list, Organization::getId, Comparator.<Integer>reverseOrder());
+            assertEquals(getReversedList(size, OrgUtils::getOrganization), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("keeps encounter order of items with equal keys")
+        void keepsEncounterOrderOfItemsWithEqualKeys(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = sortBy(list, org -> org.getId() % 3);
+            assertEquals(sort(list, comparingInt(org -> org.getId() % 3)), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("extracts key of each item once")
+        void extractsKeyOfEachItemOnce(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> extracted = new ArrayList<>();
+            sortBy(list, org -> {
+                extracted.add(org);
+                return org.getName();
+            });
+            assertEquals(list, extracted);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort a collection to list by int key")
+    class SortByIntKey {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable key extractor")
+            void forNullableKeyExtractor() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> sortByInt(list, null));
+            }
+
+            @Test
+            @DisplayName("for nullable key extractor and nullable collection")
+            void forNullableKeyExtractorAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> sortByInt(null, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Organization> result = sortByInt(null, Organization::getId);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                List<Organization> result = sortByInt(new HashSet<>(), Organization::getId);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a list sorted by key")
+        void returnsListSortedByKey(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = sortByInt(list, org -> -org.getId());
+            assertEquals(getReversedList(size, OrgUtils::getOrganization), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("keeps encounter order of items with equal keys")
+        void keepsEncounterOrderOfItemsWithEqualKeys(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = sortByInt(list, org -> org.getId() % 3);
+            assertEquals(sort(list, comparingInt(org -> org.getId() % 3)), result);
+        }
+
+        @Test
+        @DisplayName("returns a list sorted by keys of full range")
+        void returnsListSortedByKeysOfFullRange() {
+            List<Organization> list = getShuffledList(1000, OrgUtils::getOrganization);
+            ToIntFunction<Organization> keyExtractor = org -> org.getId() * 0x9E3779B9;
+            List<Organization> result = sortByInt(list, keyExtractor);
+            assertEquals(sort(list, comparingInt(keyExtractor)), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort a collection to list by long key")
+    class SortByLongKey {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable key extractor")
+            void forNullableKeyExtractor() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> sortByLong(list, null));
+            }
+
+            @Test
+            @DisplayName("for nullable key extractor and nullable collection")
+            void forNullableKeyExtractorAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> sortByLong(null, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Organization> result = sortByLong(null, Organization::getId);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                List<Organization> result = sortByLong(new HashSet<>(), Organization::getId);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a list sorted by key")
+        void returnsListSortedByKey(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = sortByLong(list, org -> -org.getId());
+            assertEquals(getReversedList(size, OrgUtils::getOrganization), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("keeps encounter order of items with equal keys")
+        void keepsEncounterOrderOfItemsWithEqualKeys(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = sortByLong(list, org -> org.getId() % 3);
+            assertEquals(sort(list, comparingInt(org -> org.getId() % 3)), result);
+        }
+
+        @Test
+        @DisplayName("returns a list sorted by keys of full range")
+        void returnsListSortedByKeysOfFullRange() {
+            List<Organization> list = getShuffledList(1000, OrgUtils::getOrganization);
+            ToLongFunction<Organization> keyExtractor = org -> org.getId() * 0x9E3779B97F4A7C15L;
+            List<Organization> result = sortByLong(list, keyExtractor);
+            assertEquals(sort(list, comparingLong(keyExtractor)), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Top N items of a collection to list")
+    class TopN {
+
+        @Nested
+        @DisplayName("throws exception")
+        class ThrowsException {
+
+            @Test
+            @DisplayName("for nullable comparator")
+            void forNullableComparator() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> topN(list, null, 3));
+            }
+
+            @Test
+            @DisplayName("for nullable comparator and nullable collection")
+            void forNullableComparatorAndNullableCollection() {
+                assertThrows(NullPointerException.class, () -> topN(null, null, 3));
+            }
+
+            @Test
+            @DisplayName("for negative n")
+            void forNegativeN() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(IllegalArgumentException.class, () -> topN(list, comparingInt(Organization::getId), -1));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Object> result = topN(null, comparingInt(Object::hashCode), 3);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                List<Object> result = topN(new ArrayList<>(), comparingInt(Object::hashCode), 3);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for zero n")
+            void forZeroN() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                List<Organization> result = topN(list, comparingInt(Organization::getId), 0);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted list")
+        void returnsFirstItemsOfSortedList(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            int n = size / 4 + 1;
+            List<Organization> result = topN(list, comparingInt(Organization::getId).reversed(), n);
+
+            List<Organization> expected = getReversedList(size, OrgUtils::getOrganization).subList(0, n);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted linked list")
+        void returnsFirstItemsOfSortedLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getShuffledList(size, OrgUtils::getOrganization));
+            int n = size / 4 + 1;
+            List<Organization> result = topN(collection, comparingInt(Organization::getId), n);
+
+            List<Organization> expected = getList(n, OrgUtils::getOrganization);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("keeps encounter order of equal items")
+        void keepsEncounterOrderOfEqualItems(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            Comparator<Organization> comparator = comparingInt(org -> org.getId() % 3);
+            int n = size / 2 + 1;
+            List<Organization> result = topN(list, comparator, n);
+
+            List<Organization> expected = sort(list, comparator).subList(0, n);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the sorted list if n is not less than size")
+        void returnsSortedListIfNIsNotLessThanSize(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = topN(list, comparingInt(Organization::getId), size);
+            assertEquals(getList(size, OrgUtils::getOrganization), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Collect a collection to immutable list")
+    class CollectToImmutable {
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                assertCollectionIsEmpty(collectToImmutable(null));
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                assertCollectionIsEmpty(collectToImmutable(new HashSet<>()));
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a list of values in the encounter order")
+        void returnsListOfValues(int size) {
+            List<Organization> collection = new LinkedList<>(getReversedList(size, OrgUtils::getOrganization));
+            List<Organization> result = collectToImmutable(collection);
+            assertEquals(collection, result);
+        }
+
+        @Test
+        @DisplayName("returns an unmodifiable list")
+        void returnsUnmodifiableList() {
+            List<Integer> result = collectToImmutable(getIntegers(TEST_FIXED_SIZE));
+            assertThrows(UnsupportedOperationException.class, () -> result.add(1));
+            assertThrows(UnsupportedOperationException.class, () -> result.set(0, 1));
+            assertThrows(UnsupportedOperationException.class, () -> result.remove(0));
+            assertThrows(UnsupportedOperationException.class, result::clear);
+        }
+
+        @Test
+        @DisplayName("returns a list independent of the source collection")
+        void returnsListIndependentOfSource() {
+            List<Integer> source = getIntegers(TEST_FIXED_SIZE);
+            List<Integer> result = collectToImmutable(source);
+            source.set(0, 0);
+            assertEquals(getIntegers(TEST_FIXED_SIZE), result);
+        }
+
+        @Test
+        @DisplayName("returns a random access list with lookups")
+        void returnsRandomAccessList() {
+            List<Integer> result = collectToImmutable(Arrays.asList(1, null, 3));
+            Assertions.assertTrue(result instanceof RandomAccess);
+            assertEquals(1, result.indexOf(null));
+            assertEquals(2, result.indexOf(3));
+            assertEquals(-1, result.indexOf(4));
+            Assertions.assertTrue(result.contains(1));
+            Assertions.assertFalse(result.contains(4));
+            assertArrayEquals(new Object[]{1, null, 3}, result.toArray());
+        }
+
+        @Test
+        @DisplayName("returns a serializable list")
+        void returnsSerializableList() {
+            List<Integer> result = collectToImmutable(getIntegers(TEST_FIXED_SIZE));
+            assertEquals(result, serializeAndDeserialize(result));
+            List<Integer> empty = collectToImmutable(null);
+            Assertions.assertSame(empty, serializeAndDeserialize(empty));
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter collection to immutable list")
+    class FilterToImmutable {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable predicate")
+        void forNullablePredicate() {
+            assertThrows(NullPointerException.class, () -> filterToImmutable(null, null));
+        }
+
+        @Test
+        @DisplayName("returns empty list for nullable collection")
+        void forNullableCollection() {
+            assertCollectionIsEmpty(filterToImmutable(null, PredicateUtils.ORG_WITH_EVEN_ID));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of filtered objects for list")
+        void returnsListOfFilteredObjects(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Organization> result = filterToImmutable(list, PredicateUtils.ORG_WITH_EVEN_ID);
+            assertEquals(getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of filtered objects for linked list")
+        void returnsListOfFilteredObjectsForLinkedList(int size) {
+            List<Organization> list = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            List<Organization> result = filterToImmutable(list, PredicateUtils.ORG_WITH_EVEN_ID);
+            assertEquals(getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN), result);
+        }
+
+        @Test
+        @DisplayName("returns all objects for always true predicate")
+        void returnsAllObjectsForAlwaysTruePredicate() {
+            List<Integer> result = filterToImmutable(getIntegers(TEST_FIXED_SIZE), i -> true);
+            assertEquals(getIntegers(TEST_FIXED_SIZE), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.add(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Map collection to immutable list")
+    class MapToImmutable {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable mapper")
+        void forNullableMapper() {
+            assertThrows(NullPointerException.class, () -> mapToImmutable(null, null));
+        }
+
+        @Test
+        @DisplayName("returns empty list for empty list")
+        void forEmptyList() {
+            assertCollectionIsEmpty(mapToImmutable(new ArrayList<>(), identity()));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of mapped objects for list")
+        void returnsListOfMappedObjects(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Integer> result = mapToImmutable(list, Organization::getId);
+            assertEquals(getNaturalNumbers(size), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of mapped objects for set")
+        void returnsListOfMappedObjectsForSet(int size) {
+            Set<Organization> set = new TreeSet<>(comparingInt(Organization::getId));
+            set.addAll(getList(size, OrgUtils::getOrganization));
+            List<Integer> result = mapToImmutable(set, Organization::getId);
+            assertEquals(getNaturalNumbers(size), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.add(1));
+        }
+    }
+}
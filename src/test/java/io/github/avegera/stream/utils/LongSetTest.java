@@ -0,0 +1,198 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static io.github.avegera.stream.utils.test.TestUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongSetTest {
+
+    @Nested
+    @DisplayName("Create long set")
+    class Create {
+
+        @Test
+        @DisplayName("throws illegal argument exception for negative expected size")
+        void throwsExceptionForNegativeExpectedSize() {
+            assertThrows(IllegalArgumentException.class, () -> new LongSet(-1));
+        }
+
+        @Test
+        @DisplayName("returns empty set without values")
+        void returnsEmptySet() {
+            LongSet set = new LongSet();
+            assertTrue(set.isEmpty());
+            assertEquals(0, set.size());
+            assertFalse(set.contains(0));
+            assertFalse(set.contains(1));
+            assertFalse(set.iterator().hasNext());
+            assertThrows(NoSuchElementException.class, () -> set.iterator().nextLong());
+            assertEquals("[]", set.toString());
+        }
+
+        @Test
+        @DisplayName("returns set of distinct values")
+        void returnsSetOfDistinctValues() {
+            LongSet set = LongSet.of(3L, 1L, 0L, 3L, -7L, 0L, Long.MIN_VALUE, Long.MAX_VALUE);
+            assertEquals(6, set.size());
+            assertFalse(set.isEmpty());
+            assertEquals(new HashSet<>(Arrays.asList(3L, 1L, 0L, -7L, Long.MIN_VALUE, Long.MAX_VALUE)), toSet(set));
+        }
+    }
+
+    @Nested
+    @DisplayName("Add value to long set")
+    class Add {
+
+        @Test
+        @DisplayName("returns true only for a new value")
+        void returnsTrueOnlyForNewValue() {
+            LongSet set = new LongSet();
+            assertTrue(set.add(0));
+            assertFalse(set.add(0));
+            assertTrue(set.add(42L << 32));
+            assertFalse(set.add(42L << 32));
+            assertEquals(2, set.size());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("grows the table and keeps all values")
+        void growsTable(int size) {
+            LongSet set = new LongSet();
+            for (int i = 0; i < size * 100; i++) {
+                set.add(i * 31L);
+            }
+            assertEquals(size * 100, set.size());
+            for (int i = -size * 100; i < size * 100 * 31; i++) {
+                assertEquals(i >= 0 && i % 31 == 0, set.contains(i));
+            }
+        }
+
+        @Test
+        @DisplayName("returns true if other set changes this set")
+        void addAll() {
+            LongSet set = LongSet.of(1L, 2L);
+            assertTrue(set.addAll(LongSet.of(0L, 2L, 3L)));
+            assertFalse(set.addAll(LongSet.of(0L, 1L)));
+            assertFalse(set.addAll(new LongSet()));
+            assertEquals(LongSet.of(0L, 1L, 2L, 3L), set);
+        }
+    }
+
+    @Nested
+    @DisplayName("Combine long sets")
+    class Combine {
+
+        @Test
+        @DisplayName("returns union of sets without changing them")
+        void returnsUnion() {
+            LongSet left = LongSet.of(0L, 1L, 2L);
+            LongSet right = LongSet.of(2L, 3L, 4L, 5L);
+            assertEquals(LongSet.of(0L, 1L, 2L, 3L, 4L, 5L), left.union(right));
+            assertEquals(LongSet.of(0L, 1L, 2L, 3L, 4L, 5L), right.union(left));
+            assertEquals(LongSet.of(0L, 1L, 2L), left);
+            assertEquals(LongSet.of(2L, 3L, 4L, 5L), right);
+        }
+
+        @Test
+        @DisplayName("returns intersection of sets without changing them")
+        void returnsIntersection() {
+            LongSet left = LongSet.of(0L, 1L, 2L, 3L);
+            LongSet right = LongSet.of(0L, 2L, 3L, 4L, 5L);
+            assertEquals(LongSet.of(0L, 2L, 3L), left.intersection(right));
+            assertEquals(LongSet.of(0L, 2L, 3L), right.intersection(left));
+            assertEquals(LongSet.of(2L), LongSet.of(1L, 2L).intersection(LongSet.of(0L, 2L)));
+            assertTrue(left.intersection(new LongSet()).isEmpty());
+            assertEquals(LongSet.of(0L, 1L, 2L, 3L), left);
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterate long set")
+    class Iterate {
+
+        @Test
+        @DisplayName("returns all values by iterator, for each, stream and array")
+        void returnsAllValues() {
+            LongSet set = LongSet.of(0L, 5L, -5L, 100L);
+            Set<Long> expected = new HashSet<>(Arrays.asList(0L, 5L, -5L, 100L));
+
+            Set<Long> iterated = new HashSet<>();
+            PrimitiveIterator.OfLong iterator = set.iterator();
+            while (iterator.hasNext()) {
+                iterated.add(iterator.nextLong());
+            }
+            assertThrows(NoSuchElementException.class, iterator::nextLong);
+            assertEquals(expected, iterated);
+
+            Set<Long> forEach = new HashSet<>();
+            set.forEach(forEach::add);
+            assertEquals(expected, forEach);
+
+            assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+            long[] array = set.toArray();
+            Arrays.sort(array);
+            assertArrayEquals(new long[]{-5L, 0L, 5L, 100L}, array);
+        }
+
+        @Test
+        @DisplayName("returns values without zero")
+        void returnsValuesWithoutZero() {
+            LongSet set = LongSet.of(1L, 2L);
+            assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), toSet(set));
+            assertEquals(2, set.toArray().length);
+            String string = set.toString();
+            assertTrue("[1, 2]".equals(string) || "[2, 1]".equals(string), string);
+        }
+    }
+
+    @Nested
+    @DisplayName("Compare long sets")
+    class Compare {
+
+        @Test
+        @DisplayName("returns equality by values")
+        void returnsEqualityByValues() {
+            LongSet set = LongSet.of(0L, 1L, 2L);
+            assertEquals(set, set);
+            assertEquals(set, LongSet.of(2L, 1L, 0L));
+            assertNotEquals(set, LongSet.of(1L, 2L));
+            assertNotEquals(set, LongSet.of(1L, 2L, 3L));
+            assertNotEquals(LongSet.of(1L, 2L, 3L), LongSet.of(0L, 1L, 2L));
+            assertNotEquals(set, new HashSet<>(Arrays.asList(0L, 1L, 2L)));
+        }
+
+        @Test
+        @DisplayName("returns hash code of the set of boxed values")
+        void returnsHashCodeOfBoxedSet() {
+            LongSet set = LongSet.of(0L, -1L, 7L, Long.MAX_VALUE);
+            assertEquals(new HashSet<>(Arrays.asList(0L, -1L, 7L, Long.MAX_VALUE)).hashCode(), set.hashCode());
+            assertEquals(set.hashCode(), LongSet.of(Long.MAX_VALUE, 7L, -1L, 0L).hashCode());
+        }
+
+        @Test
+        @DisplayName("returns equal set after serialization")
+        void returnsEqualSetAfterSerialization() {
+            LongSet set = LongSet.of(0L, 1L, 2L, 1000L);
+            LongSet deserialized = serializeAndDeserialize(set);
+            assertEquals(set, deserialized);
+            assertTrue(deserialized.add(3));
+            assertTrue(deserialized.contains(1000L));
+        }
+    }
+
+    private static Set<Long> toSet(LongSet set) {
+        Set<Long> result = new HashSet<>();
+        set.forEach(result::add);
+        return result;
+    }
+}
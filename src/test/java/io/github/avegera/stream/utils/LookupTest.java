@@ -0,0 +1,132 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.github.avegera.stream.utils.Finders.index;
+import static io.github.avegera.stream.utils.Finders.indexLazily;
+import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupTest {
+
+    @Nested
+    @DisplayName("Index of collection items")
+    class Index {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable key extractor")
+        void forNullableKeyExtractor() {
+            assertThrows(NullPointerException.class, () -> index(null, null));
+        }
+
+        @Test
+        @DisplayName("returns empty lookup for nullable collection")
+        void forNullableCollection() {
+            Lookup<Integer, Organization> lookup = index(null, Organization::getId);
+            assertTrue(lookup.isEmpty());
+            assertEquals(0, lookup.size());
+            assertNull(lookup.get(1));
+            assertFalse(lookup.find(1).isPresent());
+            assertTrue(lookup.getAll(1).isEmpty());
+            assertFalse(lookup.containsKey(1));
+            assertEquals("Lookup{keys=0}", lookup.toString());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns item by unique key")
+        void returnsItemByUniqueKey(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Lookup<Integer, Organization> lookup = index(list, Organization::getId);
+            assertEquals(size, lookup.size());
+            assertFalse(lookup.isEmpty());
+            for (Organization org : list) {
+                assertSame(org, lookup.get(org.getId()));
+                assertEquals(Optional.of(org), lookup.find(org.getId()));
+                assertEquals(Collections.singletonList(org), lookup.getAll(org.getId()));
+                assertTrue(lookup.containsKey(org.getId()));
+            }
+            assertNull(lookup.get(size + 1));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns items by repeated key in encounter order")
+        void returnsItemsByRepeatedKey(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Lookup<Integer, Organization> lookup = index(list, org -> org.getId() % 3);
+            assertEquals(Math.min(size, 3), lookup.size());
+            for (int key = 0; key < 3; key++) {
+                int remainder = key;
+                List<Organization> expected = new ArrayList<>();
+                list.stream().filter(org -> org.getId() % 3 == remainder).forEach(expected::add);
+                assertEquals(expected, lookup.getAll(key));
+                assertEquals(expected.isEmpty() ? null : expected.get(0), lookup.get(key));
+            }
+            assertThrows(UnsupportedOperationException.class, () -> lookup.getAll(1).clear());
+        }
+
+        @Test
+        @DisplayName("returns null items and null keys")
+        void returnsNullItemsAndNullKeys() {
+            Lookup<String, String> lookup = index(Arrays.asList(null, "a", null, "b"), item -> item == null ? "" : null);
+            assertEquals(2, lookup.size());
+            assertTrue(lookup.containsKey(""));
+            assertNull(lookup.get(""));
+            assertEquals(Arrays.asList(null, null), lookup.getAll(""));
+            assertEquals("a", lookup.get(null));
+            assertEquals(Arrays.asList("a", "b"), lookup.getAll(null));
+            Lookup<Integer, String> single = index(Collections.singletonList((String) null), item -> 1);
+            assertEquals(Collections.singletonList(null), single.getAll(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy index of collection items")
+    class IndexLazily {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable arguments")
+        void forNullableArguments() {
+            assertThrows(NullPointerException.class, () -> indexLazily(null, Function.identity()));
+            assertThrows(NullPointerException.class, () -> indexLazily(Collections::emptyList, null));
+        }
+
+        @Test
+        @DisplayName("rebuilds index when collection is replaced or resized")
+        void rebuildsIndexWhenCollectionChanges() {
+            AtomicInteger extracted = new AtomicInteger();
+            List<Integer> first = new ArrayList<>(Arrays.asList(1, 2, 3));
+            List<List<Integer>> source = new ArrayList<>(Collections.singletonList(first));
+            Supplier<Lookup<Integer, Integer>> lookup = indexLazily(() -> source.get(0), item -> {
+                extracted.incrementAndGet();
+                return item;
+            });
+            assertEquals(0, extracted.get());
+            assertEquals(Integer.valueOf(2), lookup.get().get(2));
+            assertSame(lookup.get(), lookup.get());
+            assertEquals(3, extracted.get());
+            first.add(4);
+            assertEquals(Integer.valueOf(4), lookup.get().get(4));
+            assertEquals(7, extracted.get());
+            source.set(0, Arrays.asList(5, 6, 7, 8));
+            assertNull(lookup.get().get(4));
+            assertEquals(Integer.valueOf(5), lookup.get().get(5));
+            assertEquals(11, extracted.get());
+            source.set(0, null);
+            assertTrue(lookup.get().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.Matchers.evaluate;
+import static io.github.avegera.stream.utils.test.PredicateUtils.ORG_WITH_EVEN_ID;
+import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static io.github.avegera.stream.utils.test.TestUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchResultTest {
+
+    @Nested
+    @DisplayName("Evaluate predicates")
+    class Evaluate {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable predicates")
+        void forNullablePredicates() {
+            List<Integer> list = getNaturalNumbers(10);
+            assertThrows(NullPointerException.class, () -> evaluate(list, (Predicate<Integer>[]) null));
+            assertThrows(NullPointerException.class, () -> evaluate(list, item -> true, null));
+        }
+
+        @Test
+        @DisplayName("returns the outcomes of matchers for nullable collection")
+        void forNullableCollection() {
+            MatchResult result = evaluate(null, ORG_WITH_EVEN_ID);
+            assertEquals(1, result.size());
+            assertFalse(result.anyMatch(0));
+            assertTrue(result.allMatch(0));
+            assertTrue(result.noneMatch(0));
+            assertTrue(result.allMatch());
+            assertEquals(0, evaluate(getNaturalNumbers(3)).size());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the same outcomes as matchers")
+        void returnsSameOutcomesAsMatchers(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Predicate<Organization>> predicates = Arrays.asList(ORG_WITH_EVEN_ID, org -> org.getId() > 0,
+                    org -> org.getId() > size, org -> org.getId() == size, org -> org.getId() % 3 == 0);
+            @SuppressWarnings("unchecked")
+            MatchResult result = evaluate(new LinkedList<>(list), predicates.toArray(new Predicate[0]));
+            assertEquals(predicates.size(), result.size());
+            for (int i = 0; i < predicates.size(); i++) {
+                assertEquals(Matchers.anyMatch(list, predicates.get(i)), result.anyMatch(i));
+                assertEquals(Matchers.allMatch(list, predicates.get(i)), result.allMatch(i));
+                assertEquals(Matchers.noneMatch(list, predicates.get(i)), result.noneMatch(i));
+            }
+            assertFalse(result.allMatch());
+        }
+
+        @Test
+        @DisplayName("stops when every outcome is known")
+        void stopsWhenEveryOutcomeIsKnown() {
+            AtomicInteger firstTested = new AtomicInteger();
+            AtomicInteger secondTested = new AtomicInteger();
+            MatchResult result = evaluate(getNaturalNumbers(100),
+                    item -> firstTested.incrementAndGet() > 0 && item % 2 == 0,
+                    item -> secondTested.incrementAndGet() > 0 && item > 5);
+            assertEquals(2, firstTested.get());
+            assertEquals(6, secondTested.get());
+            assertEquals("MatchResult[any, any]", result.toString());
+        }
+
+        @Test
+        @DisplayName("returns all, any and none outcomes")
+        void returnsOutcomes() {
+            MatchResult result = evaluate(getNaturalNumbers(10), item -> item > 0, item -> item > 5, item -> item > 10);
+            assertEquals("MatchResult[all, any, none]", result.toString());
+            assertEquals(result.toString(), serializeAndDeserialize(result).toString());
+            assertTrue(evaluate(getNaturalNumbers(10), item -> item > 0).allMatch());
+            assertThrows(IndexOutOfBoundsException.class, () -> result.anyMatch(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> result.allMatch(-1));
+        }
+    }
+}
@@ -11,7 +11,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
@@ -19,6 +23,7 @@ import static io.github.avegera.stream.utils.Matchers.*;
 import static io.github.avegera.stream.utils.Matchers.noneMatch;
 import static io.github.avegera.stream.utils.test.PredicateUtils.*;
 import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
 import static io.github.avegera.stream.utils.test.TestUtils.getSet;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -260,4 +265,100 @@ class MatchersTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Contains any of values")
+    class ContainsAny {
+
+        @Test
+        @DisplayName("returns false for nullable and empty collections")
+        void forNullableAndEmptyCollections() {
+            assertFalse(containsAny(null, Arrays.asList(1, 2)));
+            assertFalse(containsAny(Arrays.asList(1, 2), null));
+            assertFalse(containsAny(new ArrayList<>(), new HashSet<>()));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns whether collections have common item for any lookup side")
+        void returnsWhetherCollectionsIntersect(int size) {
+            List<Integer> list = getNaturalNumbers(size);
+            List<Integer> last = Collections.singletonList(size);
+            List<Integer> outside = getList(size, i -> i + size);
+            Set<Integer> mixed = new HashSet<>(outside);
+            mixed.add(size);
+            for (Collection<Integer> collection : Arrays.<Collection<Integer>>asList(list, new HashSet<>(list), new LinkedList<>(list))) {
+                assertTrue(containsAny(collection, last));
+                assertTrue(containsAny(collection, mixed));
+                assertFalse(containsAny(collection, outside));
+                assertFalse(containsAny(collection, new HashSet<>(outside)));
+                assertTrue(containsAny(last, collection));
+                assertFalse(containsAny(outside, collection));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Contains all values")
+    class ContainsAll {
+
+        @Test
+        @DisplayName("returns true for nullable values and false for nullable collection")
+        void forNullableCollections() {
+            assertTrue(containsAll(null, null));
+            assertTrue(containsAll(Arrays.asList(1, 2), new ArrayList<>()));
+            assertFalse(containsAll(null, Arrays.asList(1, 2)));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns whether collection contains all values for any lookup side")
+        void returnsWhetherCollectionContainsAllValues(int size) {
+            List<Integer> list = getNaturalNumbers(size);
+            List<Integer> reversed = new ArrayList<>(list);
+            Collections.reverse(reversed);
+            List<Integer> withOutside = new ArrayList<>(reversed);
+            withOutside.add(size + 1);
+            for (Collection<Integer> collection : Arrays.<Collection<Integer>>asList(list, new HashSet<>(list), new LinkedList<>(list))) {
+                assertTrue(containsAll(collection, reversed));
+                assertTrue(containsAll(collection, new HashSet<>(reversed)));
+                assertTrue(containsAll(collection, Collections.singletonList(size)));
+                assertFalse(containsAll(collection, withOutside));
+                assertFalse(containsAll(collection, Collections.singletonList(0)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Any match in values")
+    class AnyMatchIn {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable key extractor")
+        void forNullableKeyExtractor() {
+            assertThrows(NullPointerException.class, () -> anyMatchIn(null, null, Arrays.asList(1, 2)));
+        }
+
+        @Test
+        @DisplayName("returns false for nullable collections")
+        void forNullableCollections() {
+            assertFalse(anyMatchIn(null, Organization::getId, Arrays.asList(1, 2)));
+            assertFalse(anyMatchIn(getList(TEST_FIXED_SIZE, OrgUtils::getOrganization), Organization::getId, null));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns whether any key is one of values")
+        void returnsWhetherAnyKeyIsOneOfValues(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Integer> outside = getList(size, i -> i + size);
+            List<Integer> withLast = new ArrayList<>(outside);
+            withLast.add(size);
+            assertTrue(anyMatchIn(list, Organization::getId, withLast));
+            assertTrue(anyMatchIn(new HashSet<>(list), Organization::getId, new HashSet<>(withLast)));
+            assertTrue(anyMatchIn(list, Organization::getId, Collections.singletonList(1)));
+            assertFalse(anyMatchIn(list, Organization::getId, outside));
+            assertFalse(anyMatchIn(new LinkedList<>(list), Organization::getId, outside));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.avegera.stream.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Random;
+
+import static io.github.avegera.stream.utils.test.TestUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumericStatsTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Nested
+    @DisplayName("Accept values")
+    class Accept {
+
+        @Test
+        @DisplayName("returns the same values as summary statistics for empty stats")
+        void returnsSameValuesForEmptyStats() {
+            NumericStats stats = new NumericStats();
+            DoubleSummaryStatistics expected = new DoubleSummaryStatistics();
+            assertEquals(expected.getCount(), stats.getCount());
+            assertEquals(expected.getSum(), stats.getSum());
+            assertEquals(expected.getMin(), stats.getMin());
+            assertEquals(expected.getMax(), stats.getMax());
+            assertEquals(expected.getAverage(), stats.getMean());
+            assertEquals(0.0, stats.getVariance());
+            assertEquals(0.0, stats.getStandardDeviation());
+        }
+
+        @Test
+        @DisplayName("returns count, sum, min, max, mean and variance")
+        void returnsStatistics() {
+            NumericStats stats = new NumericStats();
+            for (double value : new double[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+                stats.accept(value);
+            }
+            assertEquals(8, stats.getCount());
+            assertEquals(40.0, stats.getSum());
+            assertEquals(2.0, stats.getMin());
+            assertEquals(9.0, stats.getMax());
+            assertEquals(5.0, stats.getMean());
+            assertEquals(4.0, stats.getVariance(), DELTA);
+            assertEquals(2.0, stats.getStandardDeviation(), DELTA);
+            assertEquals("NumericStats{count=8, sum=40.0, min=2.0, max=9.0, mean=5.0, variance=4.0}", stats.toString());
+        }
+
+        @Test
+        @DisplayName("returns compensated sum of small and large values")
+        void returnsCompensatedSum() {
+            NumericStats stats = new NumericStats();
+            stats.accept(1.0);
+            stats.accept(1e100);
+            stats.accept(1.0);
+            stats.accept(-1e100);
+            assertEquals(2.0, stats.getSum());
+        }
+
+        @Test
+        @DisplayName("returns variance of values with large offset")
+        void returnsVarianceOfValuesWithLargeOffset() {
+            NumericStats stats = new NumericStats();
+            for (double value : new double[]{4, 7, 13, 16}) {
+                stats.accept(1e9 + value);
+            }
+            assertEquals(22.5, stats.getVariance(), 1e-6);
+        }
+
+        @Test
+        @DisplayName("returns infinite sum for overflowing values")
+        void returnsInfiniteSumForOverflowingValues() {
+            NumericStats stats = new NumericStats();
+            stats.accept(Double.MAX_VALUE);
+            stats.accept(Double.MAX_VALUE);
+            assertEquals(Double.POSITIVE_INFINITY, stats.getSum());
+            stats.accept(Double.NaN);
+            assertTrue(Double.isNaN(stats.getSum()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Combine stats")
+    class Combine {
+
+        @Test
+        @DisplayName("returns the same statistics as accepting all values")
+        void returnsSameStatisticsAsAcceptingAllValues() {
+            Random random = new Random(7);
+            NumericStats all = new NumericStats();
+            NumericStats first = new NumericStats();
+            NumericStats second = new NumericStats();
+            for (int i = 0; i < 1000; i++) {
+                double value = random.nextGaussian() * 10 + 100;
+                all.accept(value);
+                (i < 300 ? first : second).accept(value);
+            }
+            assertSame(first, first.combine(second));
+            assertEquals(all.getCount(), first.getCount());
+            assertEquals(all.getSum(), first.getSum(), DELTA);
+            assertEquals(all.getMin(), first.getMin());
+            assertEquals(all.getMax(), first.getMax());
+            assertEquals(all.getMean(), first.getMean(), DELTA);
+            assertEquals(all.getVariance(), first.getVariance(), DELTA);
+        }
+
+        @Test
+        @DisplayName("returns the other statistics for empty stats")
+        void returnsOtherStatisticsForEmptyStats() {
+            NumericStats stats = new NumericStats();
+            stats.accept(3);
+            stats.accept(5);
+            NumericStats empty = new NumericStats();
+            assertSame(stats, stats.combine(new NumericStats()));
+            empty.combine(stats);
+            assertEquals(stats.toString(), empty.toString());
+            assertEquals(1.0, empty.getVariance());
+        }
+
+        @Test
+        @DisplayName("returns equal statistics after serialization")
+        void returnsEqualStatisticsAfterSerialization() {
+            NumericStats stats = new NumericStats();
+            stats.accept(1.5);
+            stats.accept(-2.5);
+            assertEquals(stats.toString(), serializeAndDeserialize(stats).toString());
+        }
+    }
+}
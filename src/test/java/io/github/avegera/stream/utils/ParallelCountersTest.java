@@ -0,0 +1,211 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.github.avegera.stream.utils.ParallelCounters.countBy;
+import static io.github.avegera.stream.utils.ParallelCounters.countIf;
+import static io.github.avegera.stream.utils.ParallelCounters.stats;
+import static io.github.avegera.stream.utils.test.ParallelUtils.*;
+import static io.github.avegera.stream.utils.test.PredicateUtils.ORG_WITH_EVEN_ID;
+import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCountersTest {
+
+    private static final int TEST_FIXED_SIZE = 10;
+
+    @Nested
+    @DisplayName("Count of collection items by key in parallel")
+    class CountBy {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable classifier")
+            void forNullableClassifier() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> countBy(list, null, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for nullable options")
+            void forNullableOptions() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> countBy(list, Organization::getId, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty map")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                assertTrue(countBy(null, Function.identity()).isEmpty());
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                assertTrue(countBy(new ArrayList<>(), Function.identity(), ALWAYS_PARALLEL).isEmpty());
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the same counts as grouping by collector")
+        void returnsSameCountsAsGroupingBy(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Map<Integer, Long> result = countBy(list, org -> org.getId() % 7, ALWAYS_PARALLEL);
+            Map<Integer, Long> expected = list.stream()
+                    .collect(Collectors.groupingBy(org -> org.getId() % 7, Collectors.counting()));
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the counts of distinct keys for linked list")
+        void returnsCountsOfDistinctKeysForLinkedList(int size) {
+            Collection<Integer> collection = new LinkedList<>(getNaturalNumbers(size));
+            Map<Integer, Long> result = countBy(collection, Function.identity(), ALWAYS_PARALLEL);
+            assertEquals(size, result.size());
+            assertTrue(result.values().stream().allMatch(count -> count == 1L));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the counts below threshold")
+        void returnsCountsBelowThreshold(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Map<Boolean, Long> result = countBy(list, org -> org.getId() % 2 == 0);
+            assertEquals(size, result.values().stream().mapToLong(Long::longValue).sum());
+        }
+
+        @Test
+        @DisplayName("runs classifier in provided pool")
+        void runsClassifierInProvidedPool() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            countBy(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()), ALWAYS_PARALLEL);
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(it -> isTestPoolThread(it)));
+        }
+
+        @Test
+        @DisplayName("runs classifier in caller thread below threshold")
+        void runsClassifierInCallerThreadBelowThreshold() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            countBy(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()), NEVER_PARALLEL);
+            assertTrue(threads.stream().allMatch(it -> it == Thread.currentThread()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Count of matched collection items in parallel")
+    class CountIf {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable predicate")
+        void forNullablePredicate() {
+            List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+            assertThrows(NullPointerException.class, () -> countIf(list, null, ALWAYS_PARALLEL));
+        }
+
+        @Test
+        @DisplayName("returns zero for nullable collection")
+        void forNullableCollection() {
+            assertEquals(0L, countIf(null, ORG_WITH_EVEN_ID));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns count of matched items")
+        void returnsCountOfMatchedItems(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            assertEquals(size / 2, countIf(list, ORG_WITH_EVEN_ID, ALWAYS_PARALLEL));
+            assertEquals(size / 2, countIf(new LinkedHashSet<>(list), ORG_WITH_EVEN_ID, ALWAYS_PARALLEL));
+        }
+
+        @Test
+        @DisplayName("runs predicate in provided pool")
+        void runsPredicateInProvidedPool() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            countIf(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()), ALWAYS_PARALLEL);
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(it -> isTestPoolThread(it)));
+        }
+
+        @Test
+        @DisplayName("runs predicate in caller thread below threshold")
+        void runsPredicateInCallerThreadBelowThreshold() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            assertEquals(100L, countIf(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()), NEVER_PARALLEL));
+            assertTrue(threads.stream().allMatch(it -> it == Thread.currentThread()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics of collection values in parallel")
+    class Stats {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable mapper")
+        void forNullableMapper() {
+            List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+            assertThrows(NullPointerException.class, () -> stats(list, null, ALWAYS_PARALLEL));
+        }
+
+        @Test
+        @DisplayName("returns empty statistics for nullable collection")
+        void forNullableCollection() {
+            assertEquals(0L, stats(null, Organization::getId).getCount());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the same statistics as sequential aggregation")
+        void returnsSameStatisticsAsSequential(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            NumericStats result = stats(collection, org -> org.getId() * 0.1, ALWAYS_PARALLEL);
+            NumericStats expected = Counters.stats(collection, org -> org.getId() * 0.1);
+            assertEquals(expected.getCount(), result.getCount());
+            assertEquals(expected.getSum(), result.getSum(), 1e-9);
+            assertEquals(expected.getMin(), result.getMin());
+            assertEquals(expected.getMax(), result.getMax());
+            assertEquals(expected.getMean(), result.getMean(), 1e-9);
+            assertEquals(expected.getVariance(), result.getVariance(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("runs mapper in provided pool")
+        void runsMapperInProvidedPool() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            stats(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()) ? 1 : 0, ALWAYS_PARALLEL);
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(it -> isTestPoolThread(it)));
+        }
+
+        @Test
+        @DisplayName("runs mapper in caller thread below threshold")
+        void runsMapperInCallerThreadBelowThreshold() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            stats(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()) ? 1 : 0, NEVER_PARALLEL);
+            assertTrue(threads.stream().allMatch(it -> it == Thread.currentThread()));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.avegera.stream.utils.ParallelFinders.*;
+import static io.github.avegera.stream.utils.test.ParallelUtils.*;
+import static io.github.avegera.stream.utils.test.PredicateUtils.ORG_WITH_EVEN_ID;
+import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelFindersTest {
+
+    private static final int TEST_FIXED_SIZE = 10;
+
+    @Nested
+    @DisplayName("Find any matched item in parallel")
+    class FindAny {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable predicate")
+            void forNullablePredicate() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> findAny(list, null, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for nullable options")
+            void forNullableOptions() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> findAny(list, ORG_WITH_EVEN_ID, null));
+            }
+
+            @Test
+            @DisplayName("for nullable matched item")
+            void forNullableMatchedItem() {
+                List<Integer> list = Arrays.asList(1, null, 3);
+                assertThrows(NullPointerException.class, () -> findAny(list, Objects::isNull, ALWAYS_PARALLEL));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty result")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                assertFalse(findAny(null, ORG_WITH_EVEN_ID).isPresent());
+                assertNull(findAnyOrNull(null, ORG_WITH_EVEN_ID));
+            }
+
+            @ParameterizedTest(name = "for size = {0}")
+            @ArgumentsSource(CollectionSizeProvider.class)
+            @DisplayName("for not matched items")
+            void forNotMatchedItems(int size) {
+                List<Integer> list = getNaturalNumbers(size);
+                assertFalse(findAny(list, item -> item > size, ALWAYS_PARALLEL).isPresent());
+                assertNull(findAnyOrNull(list, item -> item > size, ALWAYS_PARALLEL));
+                assertEquals(Integer.valueOf(0), findAnyOrDefault(list, item -> item > size, 0, ALWAYS_PARALLEL));
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns any matched item")
+        void returnsAnyMatchedItem(int size) {
+            List<Integer> list = getNaturalNumbers(size);
+            Optional<Integer> result = findAny(list, item -> item * 2 > size, ALWAYS_PARALLEL);
+            assertTrue(result.isPresent());
+            assertTrue(result.get() * 2 > size);
+            assertEquals(Integer.valueOf(size), findAnyOrNull(new LinkedHashSet<>(list), item -> item == size, ALWAYS_PARALLEL));
+            assertEquals(Integer.valueOf(1), findAnyOrDefault(new LinkedList<>(list), item -> item == 1, 0, ALWAYS_PARALLEL));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first matched item below threshold")
+        void returnsFirstMatchedItemBelowThreshold(int size) {
+            List<Integer> list = getNaturalNumbers(size);
+            assertEquals(Optional.of(size), findAny(list, item -> item == size));
+            assertEquals(Integer.valueOf(size), findAnyOrNull(list, item -> item == size));
+            assertEquals(Integer.valueOf(1), findAnyOrDefault(list, item -> item > 0, 0));
+        }
+
+        @Test
+        @DisplayName("stops other chunks after the match")
+        void stopsOtherChunksAfterMatch() {
+            AtomicInteger tested = new AtomicInteger();
+            int size = 100_000;
+            Optional<Integer> result = findAny(getNaturalNumbers(size), item -> tested.incrementAndGet() > 0 && item == 1,
+                    ALWAYS_PARALLEL);
+            assertEquals(Optional.of(1), result);
+            assertTrue(tested.get() < size);
+        }
+
+        @Test
+        @DisplayName("runs predicate in provided pool")
+        void runsPredicateInProvidedPool() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            findAny(getNaturalNumbers(100), it -> !threads.add(Thread.currentThread()), ALWAYS_PARALLEL);
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(it -> isTestPoolThread(it)));
+        }
+
+        @Test
+        @DisplayName("runs predicate in caller thread below threshold")
+        void runsPredicateInCallerThreadBelowThreshold() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            findAny(getNaturalNumbers(100), it -> !threads.add(Thread.currentThread()), NEVER_PARALLEL);
+            assertTrue(threads.stream().allMatch(it -> it == Thread.currentThread()));
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.PredicateUtils;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static io.github.avegera.stream.utils.ParallelLists.filter;
+import static io.github.avegera.stream.utils.ParallelLists.map;
+import static io.github.avegera.stream.utils.ParallelLists.sort;
+import static io.github.avegera.stream.utils.ParallelLists.topN;
+import static io.github.avegera.stream.utils.test.ParallelUtils.*;
+import static io.github.avegera.stream.utils.test.StreamAssertions.assertCollectionIsEmpty;
+import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getReversedList;
+import static io.github.avegera.stream.utils.test.TestUtils.getShuffledList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static java.util.Comparator.comparingInt;
+import static java.util.function.Function.identity;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelListsTest {
+
+    private static final int TEST_FIXED_SIZE = 10;
+
+    @Nested
+    @DisplayName("Map collection to list in parallel")
+    class MapCollection {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable mapper")
+            void forNullableMapper() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> map(list, null, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for nullable options")
+            void forNullableOptions() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> map(list, identity(), null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Object> result = map(null, identity());
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                List<Object> result = map(new ArrayList<>(), identity(), ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of mapped objects in encounter order")
+        void returnsListOfMappedObjects(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Integer> result = map(list, Organization::getId, ALWAYS_PARALLEL);
+            assertEquals(getNaturalNumbers(size), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of mapped objects for linked list")
+        void returnsListOfMappedObjectsForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            List<Integer> result = map(collection, Organization::getId, ALWAYS_PARALLEL);
+            assertEquals(getNaturalNumbers(size), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of mapped objects below threshold")
+        void returnsListOfMappedObjectsBelowThreshold(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Integer> result = map(list, Organization::getId);
+            assertEquals(getNaturalNumbers(size), result);
+        }
+
+        @Test
+        @DisplayName("runs mapper in provided pool")
+        void runsMapperInProvidedPool() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            map(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()), ALWAYS_PARALLEL);
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(it -> isTestPoolThread(it)));
+        }
+
+        @Test
+        @DisplayName("runs mapper in caller thread below threshold")
+        void runsMapperInCallerThreadBelowThreshold() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            map(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()), NEVER_PARALLEL);
+            assertTrue(threads.stream().allMatch(it -> it == Thread.currentThread()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter collection to list in parallel")
+    class FilterCollection {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable predicate")
+            void forNullablePredicate() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> filter(list, null, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for nullable options")
+            void forNullableOptions() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> filter(list, PredicateUtils.ORG_WITH_EVEN_ID, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Object> result = filter(null, it -> it.hashCode() < 0);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                List<Object> result = filter(new ArrayList<>(), it -> it.hashCode() < 0, ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("if no matches in list")
+            void ifNoMatchesInList() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                List<Organization> result = filter(list, PredicateUtils.ORG_WITH_NEGATIVE_ID, ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of filtered objects in encounter order")
+        void returnsListOfFilteredObjects(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Organization> result = filter(list, PredicateUtils.ORG_WITH_EVEN_ID, ALWAYS_PARALLEL);
+
+            List<Organization> expected = getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of filtered objects for linked list")
+        void returnsListOfFilteredObjectsForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            List<Organization> result = filter(collection, PredicateUtils.ORG_WITH_EVEN_ID, ALWAYS_PARALLEL);
+
+            List<Organization> expected = getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the list of filtered objects below threshold")
+        void returnsListOfFilteredObjectsBelowThreshold(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Organization> result = filter(list, PredicateUtils.ORG_WITH_EVEN_ID);
+
+            List<Organization> expected = getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort a collection to list in parallel")
+    class SortCollection {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable comparator")
+            void forNullableComparator() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> sort(list, null, ALWAYS_PARALLEL));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Object> result = sort(null, comparingInt(Object::hashCode));
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                List<Object> result = sort(new ArrayList<>(), comparingInt(Object::hashCode), ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the sorted list")
+        void returnsSorted(int size) {
+            Collection<Organization> collection = new LinkedList<>(getShuffledList(size, OrgUtils::getOrganization));
+            List<Organization> result = sort(collection, comparingInt(Organization::getId).reversed(), ALWAYS_PARALLEL);
+
+            List<Organization> expected = getReversedList(size, OrgUtils::getOrganization);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the sorted list below threshold")
+        void returnsSortedBelowThreshold(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = sort(list, comparingInt(Organization::getId).reversed());
+
+            List<Organization> expected = getReversedList(size, OrgUtils::getOrganization);
+            assertEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("keeps encounter order of equal items in large collection")
+        void keepsEncounterOrderOfEqualItemsInLargeCollection() {
+            List<Organization> list = getShuffledList(20_000, OrgUtils::getOrganization);
+            Comparator<Organization> comparator = comparingInt(org -> org.getId() % 7);
+            List<Organization> result = sort(list, comparator, ALWAYS_PARALLEL);
+
+            List<Organization> expected = Lists.sort(list, comparator);
+            assertEquals(expected, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Top N items of a collection to list in parallel")
+    class TopN {
+
+        @Nested
+        @DisplayName("throws exception")
+        class ThrowsException {
+
+            @Test
+            @DisplayName("for nullable comparator")
+            void forNullableComparator() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> topN(list, null, 3, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for negative n")
+            void forNegativeN() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(IllegalArgumentException.class, () -> topN(list, comparingInt(Organization::getId), -1, ALWAYS_PARALLEL));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty list")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                List<Object> result = topN(null, comparingInt(Object::hashCode), 3);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for zero n")
+            void forZeroN() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                List<Organization> result = topN(list, comparingInt(Organization::getId), 0, ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted list")
+        void returnsFirstItemsOfSortedList(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            list.addAll(getShuffledList(size, OrgUtils::getOrganization));
+            Comparator<Organization> comparator = comparingInt(org -> org.getId() % 3);
+            int n = size / 2 + 1;
+            List<Organization> result = topN(list, comparator, n, ALWAYS_PARALLEL);
+
+            List<Organization> expected = Lists.topN(list, comparator, n);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted linked list")
+        void returnsFirstItemsOfSortedLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getShuffledList(size, OrgUtils::getOrganization));
+            int n = size / 4 + 1;
+            List<Organization> result = topN(collection, comparingInt(Organization::getId), n, ALWAYS_PARALLEL);
+
+            List<Organization> expected = getList(n, OrgUtils::getOrganization);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted list below threshold")
+        void returnsFirstItemsOfSortedListBelowThreshold(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            List<Organization> result = topN(list, comparingInt(Organization::getId), size);
+
+            List<Organization> expected = getList(size, OrgUtils::getOrganization);
+            assertEquals(expected, result);
+        }
+    }
+}
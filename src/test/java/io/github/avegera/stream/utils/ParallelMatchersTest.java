@@ -0,0 +1,116 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static io.github.avegera.stream.utils.ParallelMatchers.*;
+import static io.github.avegera.stream.utils.test.ParallelUtils.*;
+import static io.github.avegera.stream.utils.test.PredicateUtils.ORG_WITH_EVEN_ID;
+import static io.github.avegera.stream.utils.test.TestUtils.getList;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMatchersTest {
+
+    private static final int TEST_FIXED_SIZE = 10;
+
+    @Nested
+    @DisplayName("Match collection items in parallel")
+    class Match {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable predicate")
+            void forNullablePredicate() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> allMatch(list, null, ALWAYS_PARALLEL));
+                assertThrows(NullPointerException.class, () -> anyMatch(list, null, ALWAYS_PARALLEL));
+                assertThrows(NullPointerException.class, () -> noneMatch(list, null, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for nullable options")
+            void forNullableOptions() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> allMatch(list, ORG_WITH_EVEN_ID, null));
+                assertThrows(NullPointerException.class, () -> anyMatch(list, ORG_WITH_EVEN_ID, null));
+                assertThrows(NullPointerException.class, () -> noneMatch(list, ORG_WITH_EVEN_ID, null));
+            }
+        }
+
+        @Test
+        @DisplayName("returns the outcomes of matchers for nullable collection")
+        void forNullableCollection() {
+            assertTrue(allMatch(null, ORG_WITH_EVEN_ID));
+            assertFalse(anyMatch(null, ORG_WITH_EVEN_ID));
+            assertTrue(noneMatch(null, ORG_WITH_EVEN_ID));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the same outcomes as matchers")
+        void returnsSameOutcomesAsMatchers(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            List<Predicate<Organization>> predicates = Arrays.asList(ORG_WITH_EVEN_ID, org -> org.getId() > 0,
+                    org -> org.getId() > size, org -> org.getId() == size);
+            for (Collection<Organization> collection : Arrays.<Collection<Organization>>asList(list, new LinkedHashSet<>(list))) {
+                for (Predicate<Organization> predicate : predicates) {
+                    assertEquals(Matchers.allMatch(list, predicate), allMatch(collection, predicate, ALWAYS_PARALLEL));
+                    assertEquals(Matchers.anyMatch(list, predicate), anyMatch(collection, predicate, ALWAYS_PARALLEL));
+                    assertEquals(Matchers.noneMatch(list, predicate), noneMatch(collection, predicate, ALWAYS_PARALLEL));
+                    assertEquals(Matchers.allMatch(list, predicate), allMatch(collection, predicate));
+                    assertEquals(Matchers.anyMatch(list, predicate), anyMatch(collection, predicate));
+                    assertEquals(Matchers.noneMatch(list, predicate), noneMatch(collection, predicate));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("stops other chunks after the deciding item")
+        void stopsOtherChunksAfterDecidingItem() {
+            int size = 100_000;
+            List<Integer> list = getNaturalNumbers(size);
+            AtomicInteger tested = new AtomicInteger();
+            assertFalse(allMatch(list, item -> tested.incrementAndGet() > 0 && item != 1, ALWAYS_PARALLEL));
+            assertTrue(tested.get() < size);
+            tested.set(0);
+            assertTrue(anyMatch(list, item -> tested.incrementAndGet() > 0 && item == 1, ALWAYS_PARALLEL));
+            assertTrue(tested.get() < size);
+            tested.set(0);
+            assertFalse(noneMatch(list, item -> tested.incrementAndGet() > 0 && item == 1, ALWAYS_PARALLEL));
+            assertTrue(tested.get() < size);
+        }
+
+        @Test
+        @DisplayName("runs predicate in provided pool")
+        void runsPredicateInProvidedPool() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            assertTrue(allMatch(getNaturalNumbers(100), it -> threads.add(Thread.currentThread()), ALWAYS_PARALLEL));
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(it -> isTestPoolThread(it)));
+        }
+
+        @Test
+        @DisplayName("runs predicate in caller thread below threshold")
+        void runsPredicateInCallerThreadBelowThreshold() {
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            assertFalse(anyMatch(getNaturalNumbers(100), it -> !threads.add(Thread.currentThread()), NEVER_PARALLEL));
+            assertEquals(100, threads.size());
+            assertTrue(threads.stream().allMatch(it -> it == Thread.currentThread()));
+        }
+    }
+}
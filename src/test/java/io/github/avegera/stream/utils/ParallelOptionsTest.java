@@ -0,0 +1,112 @@
+package io.github.avegera.stream.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.avegera.stream.utils.test.ParallelUtils.TEST_POOL;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelOptionsTest {
+
+    @Nested
+    @DisplayName("Default options")
+    class Defaults {
+
+        @Test
+        @DisplayName("use the default threshold")
+        void useDefaultThreshold() {
+            assertEquals(ParallelOptions.DEFAULT_THRESHOLD, ParallelOptions.defaults().getThreshold());
+        }
+
+        @Test
+        @DisplayName("use the common pool")
+        void useCommonPool() {
+            assertSame(ForkJoinPool.commonPool(), ParallelOptions.defaults().getPool());
+        }
+    }
+
+    @Nested
+    @DisplayName("Custom options")
+    class Custom {
+
+        @Test
+        @DisplayName("keep provided threshold and pool")
+        void keepProvidedThresholdAndPool() {
+            ParallelOptions options = ParallelOptions.of(100, TEST_POOL);
+            assertEquals(100, options.getThreshold());
+            assertSame(TEST_POOL, options.getPool());
+        }
+
+        @Test
+        @DisplayName("change threshold in copy")
+        void changeThresholdInCopy() {
+            ParallelOptions options = ParallelOptions.defaults().threshold(100);
+            assertEquals(100, options.getThreshold());
+            assertEquals(ParallelOptions.DEFAULT_THRESHOLD, ParallelOptions.defaults().getThreshold());
+        }
+
+        @Test
+        @DisplayName("change pool in copy")
+        void changePoolInCopy() {
+            ParallelOptions options = ParallelOptions.defaults().pool(TEST_POOL);
+            assertSame(TEST_POOL, options.getPool());
+            assertSame(ForkJoinPool.commonPool(), ParallelOptions.defaults().getPool());
+        }
+
+        @Test
+        @DisplayName("have readable string representation")
+        void haveReadableStringRepresentation() {
+            assertEquals("ParallelOptions{threshold=100, parallelism=4}", ParallelOptions.of(100, TEST_POOL).toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel execution")
+    class IsParallel {
+
+        @Test
+        @DisplayName("is enabled from threshold")
+        void isEnabledFromThreshold() {
+            ParallelOptions options = ParallelOptions.of(100, TEST_POOL);
+            assertFalse(options.isParallel(99));
+            assertTrue(options.isParallel(100));
+        }
+
+        @Test
+        @DisplayName("is disabled for single item")
+        void isDisabledForSingleItem() {
+            assertFalse(ParallelOptions.of(0, TEST_POOL).isParallel(1));
+        }
+
+        @Test
+        @DisplayName("is disabled for pool without parallelism")
+        void isDisabledForPoolWithoutParallelism() {
+            ForkJoinPool pool = new ForkJoinPool(1);
+            try {
+                assertFalse(ParallelOptions.of(0, pool).isParallel(100));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("throws exception")
+    class ThrowsException {
+
+        @Test
+        @DisplayName("for negative threshold")
+        void forNegativeThreshold() {
+            assertThrows(IllegalArgumentException.class, () -> ParallelOptions.of(-1, TEST_POOL));
+        }
+
+        @Test
+        @DisplayName("for nullable pool")
+        void forNullablePool() {
+            assertThrows(NullPointerException.class, () -> ParallelOptions.defaults().pool(null));
+        }
+    }
+}
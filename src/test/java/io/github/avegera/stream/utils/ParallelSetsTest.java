@@ -0,0 +1,317 @@
+package io.github.avegera.stream.utils;
+
+import io.github.avegera.stream.utils.test.CollectionSizeProvider;
+import io.github.avegera.stream.utils.test.PredicateUtils;
+import io.github.avegera.stream.utils.test.domain.OrgUtils;
+import io.github.avegera.stream.utils.test.domain.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.*;
+
+import static io.github.avegera.stream.utils.ParallelSets.filterToSet;
+import static io.github.avegera.stream.utils.ParallelSets.mapToSet;
+import static io.github.avegera.stream.utils.ParallelSets.sortToSet;
+import static io.github.avegera.stream.utils.ParallelSets.topNToSet;
+import static io.github.avegera.stream.utils.test.ParallelUtils.ALWAYS_PARALLEL;
+import static io.github.avegera.stream.utils.test.StreamAssertions.assertCollectionIsEmpty;
+import static io.github.avegera.stream.utils.test.StreamAssertions.assertIterableEquals;
+import static io.github.avegera.stream.utils.test.TestUtils.*;
+import static java.util.Comparator.comparingInt;
+import static java.util.function.Function.identity;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelSetsTest {
+
+    private static final int TEST_FIXED_SIZE = 10;
+
+    @Nested
+    @DisplayName("Map collection to set in parallel")
+    class MapCollectionToSet {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable mapper")
+            void forNullableMapper() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> mapToSet(list, null, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for nullable options")
+            void forNullableOptions() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> mapToSet(list, identity(), null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty set")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Set<Object> result = mapToSet(null, identity());
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                Set<Object> result = mapToSet(new ArrayList<>(), identity(), ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of mapped objects")
+        void returnsSetOfMappedObjects(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Set<Integer> result = mapToSet(list, Organization::getId, ALWAYS_PARALLEL);
+            assertEquals(getNaturalNumbersSet(size), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of distinct mapped objects")
+        void returnsSetOfDistinctMappedObjects(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            list.addAll(getList(size, OrgUtils::getOrganization));
+            Set<Integer> result = mapToSet(list, Organization::getId, ALWAYS_PARALLEL);
+            assertEquals(getNaturalNumbersSet(size), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of mapped objects below threshold")
+        void returnsSetOfMappedObjectsBelowThreshold(int size) {
+            Set<Organization> set = getSet(size, OrgUtils::getOrganization);
+            Set<Integer> result = mapToSet(set, Organization::getId);
+            assertEquals(getNaturalNumbersSet(size), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter collection to set in parallel")
+    class FilterCollectionToSet {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable predicate")
+            void forNullablePredicate() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> filterToSet(list, null, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for nullable options")
+            void forNullableOptions() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> filterToSet(list, PredicateUtils.ORG_WITH_EVEN_ID, null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty set")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Set<Object> result = filterToSet(null, it -> it.hashCode() < 0);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                Set<Object> result = filterToSet(new HashSet<>(), it -> it.hashCode() < 0, ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of filtered objects")
+        void returnsSetOfFilteredObjects(int size) {
+            Set<Organization> set = getSet(size, OrgUtils::getOrganization);
+            Set<Organization> result = filterToSet(set, PredicateUtils.ORG_WITH_EVEN_ID, ALWAYS_PARALLEL);
+
+            Set<Organization> expected = getSet(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of filtered objects below threshold")
+        void returnsSetOfFilteredObjectsBelowThreshold(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Set<Organization> result = filterToSet(list, PredicateUtils.ORG_WITH_EVEN_ID);
+
+            Set<Organization> expected = getSet(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort a collection to set in parallel")
+    class SortCollection {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable comparator")
+            void forNullableComparator() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> sortToSet(list, null, ALWAYS_PARALLEL));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty set")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Set<Object> result = sortToSet(null, comparingInt(Object::hashCode));
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                Set<Object> result = sortToSet(new ArrayList<>(), comparingInt(Object::hashCode), ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the sorted set")
+        void returnsSorted(int size) {
+            Collection<Organization> collection = new LinkedList<>(getShuffledList(size, OrgUtils::getOrganization));
+            Set<Organization> result = sortToSet(collection, comparingInt(Organization::getId).reversed(), ALWAYS_PARALLEL);
+
+            List<Organization> expected = getReversedList(size, OrgUtils::getOrganization);
+            assertIterableEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the sorted set below threshold")
+        void returnsSortedBelowThreshold(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            Set<Organization> result = sortToSet(list, comparingInt(Organization::getId).reversed());
+
+            List<Organization> expected = getReversedList(size, OrgUtils::getOrganization);
+            assertIterableEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("keeps encounter order of equal items in large collection")
+        void keepsEncounterOrderOfEqualItemsInLargeCollection() {
+            List<Organization> list = getShuffledList(20_000, OrgUtils::getOrganization);
+            Comparator<Organization> comparator = comparingInt(org -> org.getId() % 7);
+            Set<Organization> result = sortToSet(list, comparator, ALWAYS_PARALLEL);
+
+            Set<Organization> expected = Sets.sortToSet(list, comparator);
+            assertIterableEquals(expected, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Top N items of a collection to set in parallel")
+    class TopN {
+
+        @Nested
+        @DisplayName("throws exception")
+        class ThrowsException {
+
+            @Test
+            @DisplayName("for nullable comparator")
+            void forNullableComparator() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> topNToSet(list, null, 3, ALWAYS_PARALLEL));
+            }
+
+            @Test
+            @DisplayName("for negative n")
+            void forNegativeN() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(IllegalArgumentException.class, () -> topNToSet(list, comparingInt(Organization::getId), -1, ALWAYS_PARALLEL));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty set")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Set<Object> result = topNToSet(null, comparingInt(Object::hashCode), 3);
+                assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for zero n")
+            void forZeroN() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                Set<Organization> result = topNToSet(list, comparingInt(Organization::getId), 0, ALWAYS_PARALLEL);
+                assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted list")
+        void returnsFirstItemsOfSortedList(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            list.addAll(getShuffledList(size, OrgUtils::getOrganization));
+            Comparator<Organization> comparator = comparingInt(org -> org.getId() % 3);
+            int n = size / 2 + 1;
+            Set<Organization> result = topNToSet(list, comparator, n, ALWAYS_PARALLEL);
+
+            Set<Organization> expected = Sets.topNToSet(list, comparator, n);
+            assertIterableEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted linked list")
+        void returnsFirstItemsOfSortedLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getShuffledList(size, OrgUtils::getOrganization));
+            int n = size / 4 + 1;
+            Set<Organization> result = topNToSet(collection, comparingInt(Organization::getId), n, ALWAYS_PARALLEL);
+
+            List<Organization> expected = getList(n, OrgUtils::getOrganization);
+            assertIterableEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted list below threshold")
+        void returnsFirstItemsOfSortedListBelowThreshold(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            Set<Organization> result = topNToSet(list, comparingInt(Organization::getId), size);
+
+            List<Organization> expected = getList(size, OrgUtils::getOrganization);
+            assertIterableEquals(expected, result);
+        }
+    }
+}
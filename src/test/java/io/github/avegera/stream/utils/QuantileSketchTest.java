@@ -0,0 +1,175 @@
+package io.github.avegera.stream.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static io.github.avegera.stream.utils.test.TestUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    private static final double[] QS = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+
+    private static final double RANK_ERROR = 0.02;
+
+    @Nested
+    @DisplayName("Accept values")
+    class Accept {
+
+        @Test
+        @DisplayName("throws exception for invalid arguments")
+        void forInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(QuantileSketch.MIN_K - 1));
+            QuantileSketch sketch = new QuantileSketch();
+            assertThrows(IllegalArgumentException.class, () -> sketch.accept(Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> sketch.quantile(Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> sketch.quantiles(0.5, 2.0));
+        }
+
+        @Test
+        @DisplayName("returns NaN for empty sketch")
+        void returnsNanForEmptySketch() {
+            QuantileSketch sketch = new QuantileSketch();
+            assertEquals(0L, sketch.getCount());
+            assertEquals(QuantileSketch.DEFAULT_K, sketch.getK());
+            assertTrue(Double.isNaN(sketch.getMin()));
+            assertTrue(Double.isNaN(sketch.getMax()));
+            assertTrue(Double.isNaN(sketch.quantile(0.5)));
+            assertEquals(0, sketch.quantiles().length);
+        }
+
+        @Test
+        @DisplayName("returns exact quantiles of values below capacity")
+        void returnsExactQuantilesBelowCapacity() {
+            QuantileSketch sketch = new QuantileSketch();
+            for (double value : new double[]{5, 1, 4, 2, 3}) {
+                sketch.accept(value);
+            }
+            assertArrayEquals(new double[]{1, 1, 2, 3, 5}, sketch.quantiles(0.0, 0.2, 0.3, 0.5, 1.0));
+            assertEquals("QuantileSketch{k=200, count=5, retained=5}", sketch.toString());
+        }
+
+        @Test
+        @DisplayName("returns quantiles within rank error in bounded memory")
+        void returnsQuantilesWithinRankError() {
+            int count = 100_000;
+            double[] values = new double[count];
+            Random random = new Random(11);
+            QuantileSketch sketch = new QuantileSketch();
+            for (int i = 0; i < count; i++) {
+                values[i] = random.nextGaussian();
+                sketch.accept(values[i]);
+            }
+            assertRankError(values, sketch);
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            assertEquals(sorted[0], sketch.getMin());
+            assertEquals(sorted[count - 1], sketch.getMax());
+            assertEquals(sorted[0], sketch.quantile(0.0));
+            assertEquals(sorted[count - 1], sketch.quantile(1.0));
+            assertEquals(count, sketch.getCount());
+            String retained = sketch.toString().replaceAll(".*retained=(\\d+).*", "$1");
+            assertTrue(Integer.parseInt(retained) < 4 * QuantileSketch.DEFAULT_K);
+        }
+
+        @Test
+        @DisplayName("returns quantiles of sorted values")
+        void returnsQuantilesOfSortedValues() {
+            int count = 50_000;
+            double[] values = new double[count];
+            QuantileSketch sketch = new QuantileSketch(50);
+            for (int i = 0; i < count; i++) {
+                values[i] = i;
+                sketch.accept(i);
+            }
+            assertRankError(values, sketch, 0.06);
+        }
+    }
+
+    @Nested
+    @DisplayName("Merge sketches")
+    class Merge {
+
+        @Test
+        @DisplayName("returns quantiles of all values within rank error")
+        void returnsQuantilesOfAllValues() {
+            int count = 60_000;
+            double[] values = new double[count];
+            Random random = new Random(5);
+            QuantileSketch first = new QuantileSketch();
+            QuantileSketch second = new QuantileSketch(100);
+            for (int i = 0; i < count; i++) {
+                values[i] = i < 20_000 ? random.nextDouble() : 1 + random.nextDouble() * 2;
+                (i < 20_000 ? first : second).accept(values[i]);
+            }
+            assertSame(first, first.merge(second));
+            assertEquals(count, first.getCount());
+            assertEquals(QuantileSketch.DEFAULT_K, first.getK());
+            assertRankError(values, first);
+        }
+
+        @Test
+        @DisplayName("counts every value twice for merge with itself")
+        void countsEveryValueTwiceForMergeWithItself() {
+            QuantileSketch sketch = new QuantileSketch(16);
+            for (int i = 0; i < 1000; i++) {
+                sketch.accept(i);
+            }
+            double[] expected = sketch.quantiles(QS);
+            assertSame(sketch, sketch.merge(sketch));
+            assertEquals(2000L, sketch.getCount());
+            assertEquals(0.0, sketch.getMin());
+            assertEquals(999.0, sketch.getMax());
+            double[] actual = sketch.quantiles(QS);
+            for (int i = 0; i < QS.length; i++) {
+                assertEquals(expected[i], actual[i], 50.0);
+            }
+        }
+
+        @Test
+        @DisplayName("returns the other values for empty sketch")
+        void returnsOtherValuesForEmptySketch() {
+            QuantileSketch sketch = new QuantileSketch();
+            sketch.accept(2);
+            sketch.accept(-1);
+            QuantileSketch empty = new QuantileSketch();
+            assertSame(sketch, sketch.merge(new QuantileSketch()));
+            empty.merge(sketch);
+            assertEquals(2L, empty.getCount());
+            assertEquals(-1.0, empty.getMin());
+            assertEquals(2.0, empty.getMax());
+            assertArrayEquals(sketch.quantiles(QS), empty.quantiles(QS));
+        }
+
+        @Test
+        @DisplayName("returns equal quantiles after serialization")
+        void returnsEqualQuantilesAfterSerialization() {
+            QuantileSketch sketch = new QuantileSketch(16);
+            for (int i = 0; i < 1000; i++) {
+                sketch.accept(i % 37);
+            }
+            QuantileSketch copy = serializeAndDeserialize(sketch);
+            assertArrayEquals(sketch.quantiles(QS), copy.quantiles(QS));
+            assertEquals(sketch.toString(), copy.toString());
+        }
+    }
+
+    private static void assertRankError(double[] values, QuantileSketch sketch) {
+        assertRankError(values, sketch, RANK_ERROR);
+    }
+
+    private static void assertRankError(double[] values, QuantileSketch sketch, double rankError) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double[] estimates = sketch.quantiles(QS);
+        for (int i = 0; i < QS.length; i++) {
+            int rank = Arrays.binarySearch(sorted, estimates[i]);
+            assertTrue(rank >= 0, "estimate should be one of the values");
+            assertEquals(QS[i], (double) rank / sorted.length, rankError, "rank of quantile " + QS[i]);
+        }
+    }
+}
@@ -13,13 +13,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.io.Serializable;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static io.github.avegera.stream.utils.Sets.*;
 import static io.github.avegera.stream.utils.test.TestUtils.*;
+import static java.util.Comparator.comparing;
 import static java.util.Comparator.comparingInt;
 import static java.util.function.Function.identity;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SetsTest {
@@ -85,6 +90,30 @@ class SetsTest {
             Set<Organization> result = mapToSet(set, identity());
             assertEquals(set, result);
         }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of mapped objects for linked list")
+        void returnsSetOfMappedObjectsForLinkedList(int size) {
+            List<Organization> list = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            Set<Integer> result = mapToSet(list, Organization::getId);
+            assertEquals(getNaturalNumbersSet(size), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set created by the set factory in the encounter order")
+        void returnsSetCreatedBySetFactory(int size) {
+            List<Organization> list = getReversedList(size, OrgUtils::getOrganization);
+            LinkedHashSet<Integer> result = mapToSet(list, Organization::getId, LinkedHashSet::new);
+            assertEquals(list.stream().map(Organization::getId).collect(Collectors.toList()), new ArrayList<>(result));
+        }
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable set factory")
+        void throwsExceptionForNullableSetFactory() {
+            assertThrows(NullPointerException.class, () -> mapToSet(null, identity(), null));
+        }
     }
 
     @Nested
@@ -139,6 +168,38 @@ class SetsTest {
             Set<Organization> expected = getSet(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
             assertEquals(expected, result);
         }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of filtered objects for linked list")
+        void returnsSetOfFilteredObjectsForLinkedList(int size) {
+            Collection<Organization> collection = new LinkedList<>(getList(size, OrgUtils::getOrganization));
+            Set<Organization> result = filterToSet(collection, PredicateUtils.ORG_WITH_EVEN_ID);
+
+            Set<Organization> expected = getSet(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set created by the set factory")
+        void returnsSetCreatedBySetFactory(int size) {
+            List<Integer> list = getReversedList(size, identity());
+            TreeSet<Integer> result = filterToSet(list, PredicateUtils.INTEGER_IS_EVEN, capacity -> new TreeSet<>());
+            assertEquals(getSet(size, identity(), PredicateUtils.INTEGER_IS_EVEN), result);
+        }
+
+        @Test
+        @DisplayName("doesn't size the set by the source collection")
+        void doesNotSizeSetBySourceCollection() {
+            List<Integer> capacities = new ArrayList<>();
+            Set<Integer> result = filterToSet(getIntegers(10_000), i -> i == 1, capacity -> {
+                capacities.add(capacity);
+                return new HashSet<>(capacity);
+            });
+            assertEquals(Collections.singleton(1), result);
+            assertEquals(Collections.singletonList(16), capacities);
+        }
     }
 
     @Nested
@@ -243,6 +304,37 @@ class SetsTest {
             Set<Address> result = flatMapCollectionsToSet(collection, Organization::getAddresses);
             Assertions.assertEquals(mergeSetsForEachSize(size, OrgUtils::getAddress), result);
         }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set created by the set factory")
+        void returnsSetCreatedBySetFactory(int size) {
+            Collection<Organization> collection = getList(size, OrgUtils::getOrganizationWithAddresses);
+            Set<Address> result = flatMapCollectionsToSet(collection, Organization::getAddresses, LinkedHashSet::new);
+            Assertions.assertEquals(mergeSetsForEachSize(size, OrgUtils::getAddress), result);
+        }
+
+        @Test
+        @DisplayName("skips nullable and empty nested collections")
+        void skipsNullableAndEmptyNestedCollections() {
+            List<List<Integer>> collection = Arrays.asList(null, Arrays.asList(1, 2), new ArrayList<>(), Arrays.asList(2, 3));
+            Set<Integer> result = flatMapCollectionsToSet(collection, identity());
+            assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), result);
+        }
+
+        @Test
+        @DisplayName("sizes the set by the largest nested collection for shared nested collections")
+        void sizesSetByLargestNestedCollectionForSharedNestedCollections() {
+            List<Integer> nested = getIntegers(1_000);
+            List<Integer> collection = getIntegers(1_000);
+            List<Integer> capacities = new ArrayList<>();
+            Set<Integer> result = flatMapCollectionsToSet(collection, item -> nested, capacity -> {
+                capacities.add(capacity);
+                return new HashSet<>(capacity);
+            });
+            assertEquals(new HashSet<>(nested), result);
+            assertEquals(Collections.singletonList(Loops.hashCapacity(1_000)), capacities);
+        }
     }
 
     @Nested
@@ -328,6 +420,22 @@ class SetsTest {
             Set<Organization> expected = getSet(size, OrgUtils::getOrganization);
             assertEquals(expected, result);
         }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a set created by the set factory")
+        void returnsSetCreatedBySetFactory(int size) {
+            List<Integer> collection = getReversedList(size, identity());
+            TreeSet<Integer> result = collectToSet(collection, capacity -> new TreeSet<>());
+            assertEquals(getNaturalNumbers(size), new ArrayList<>(result));
+        }
+
+        @Test
+        @DisplayName("returns an empty set created by the set factory for nullable collection")
+        void returnsEmptySetCreatedBySetFactory() {
+            LinkedHashSet<Object> result = collectToSet(null, LinkedHashSet::new);
+            StreamAssertions.assertCollectionIsEmpty(result);
+        }
     }
 
     @Nested
@@ -383,4 +491,509 @@ class SetsTest {
             StreamAssertions.assertIterableEquals(expected, result);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Sort a collection to set by key")
+    class SortToSetByKey {
+
+        @Nested
+        @DisplayName("throws null pointer exception")
+        class ThrowsNullPointerException {
+
+            @Test
+            @DisplayName("for nullable key extractor")
+            void forNullableKeyExtractor() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> sortToSetBy(list, (Function<Organization, Integer>) null));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty set")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Set<Object> result = sortToSetBy(null, Object::hashCode);
+                StreamAssertions.assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                Set<Object> result = sortToSetBy(new ArrayList<>(), Object::hashCode);
+                StreamAssertions.assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a set sorted by natural order of keys")
+        void returnsSetSortedByNaturalOrderOfKeys(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            list.addAll(getShuffledList(size, OrgUtils::getOrganization));
+            Set<Organization> result = sortToSetBy(list, Organization::getName);
+
+            List<Organization> expected = Lists.sort(getList(size, OrgUtils::getOrganization), comparing(Organization::getName));
+            StreamAssertions.assertIterableEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a set sorted by key comparator")
+        void returnsSetSortedByKeyComparator(int size) {
+            Set<Organization> set = getSet(size, OrgUtils::getOrganization);
+            Set<Organization> result = sortToSetBy(set, Organization::getId, Comparator.<Integer>reverseOrder());
+
+            List<Organization> expected = getReversedList(size, OrgUtils::getOrganization);
+            StreamAssertions.assertIterableEquals(expected, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Top N items of a collection to set")
+    class TopNToSet {
+
+        @Nested
+        @DisplayName("throws exception")
+        class ThrowsException {
+
+            @Test
+            @DisplayName("for nullable comparator")
+            void forNullableComparator() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(NullPointerException.class, () -> topNToSet(list, null, 3));
+            }
+
+            @Test
+            @DisplayName("for negative n")
+            void forNegativeN() {
+                List<Organization> list = getList(TEST_FIXED_SIZE, OrgUtils::getOrganization);
+                assertThrows(IllegalArgumentException.class, () -> topNToSet(list, comparingInt(Organization::getId), -1));
+            }
+        }
+
+        @Nested
+        @DisplayName("returns empty set")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Set<Object> result = topNToSet(null, comparingInt(Object::hashCode), 3);
+                StreamAssertions.assertCollectionIsEmpty(result);
+            }
+
+            @Test
+            @DisplayName("for empty set")
+            void forEmptySet() {
+                Set<Object> result = topNToSet(new HashSet<>(), comparingInt(Object::hashCode), 3);
+                StreamAssertions.assertCollectionIsEmpty(result);
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first items of sorted set")
+        void returnsFirstItemsOfSortedSet(int size) {
+            Set<Organization> set = getSet(size, OrgUtils::getOrganization);
+            int n = size / 4 + 1;
+            Set<Organization> result = topNToSet(set, comparingInt(Organization::getId).reversed(), n);
+
+            List<Organization> expected = getReversedList(size, OrgUtils::getOrganization).subList(0, n);
+            StreamAssertions.assertIterableEquals(expected, result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the first distinct items of sorted list")
+        void returnsFirstDistinctItemsOfSortedList(int size) {
+            List<Organization> list = getShuffledList(size, OrgUtils::getOrganization);
+            list.addAll(getShuffledList(size, OrgUtils::getOrganization));
+            int n = size / 4 + 1;
+            Set<Organization> result = topNToSet(list, comparingInt(Organization::getId), n);
+
+            List<Organization> expected = getList(n, OrgUtils::getOrganization);
+            StreamAssertions.assertIterableEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("keeps the least of equal items for comparator inconsistent with equals")
+        void keepsLeastOfEqualItems() {
+            String greater = new String("a");
+            String lesser = new String("a");
+            Map<String, Integer> keys = new IdentityHashMap<>();
+            keys.put("b", 1);
+            keys.put(greater, 3);
+            keys.put("c", 2);
+            keys.put(lesser, 0);
+            List<String> list = Arrays.asList("b", greater, "c", lesser);
+            Comparator<String> comparator = comparingInt(keys::get);
+            Set<String> result = topNToSet(list, comparator, 3);
+
+            List<String> expected = new ArrayList<>(sortToSet(list, comparator)).subList(0, 3);
+            StreamAssertions.assertIterableEquals(expected, result);
+            assertSame(lesser, result.iterator().next());
+        }
+    }
+
+    @Nested
+    @DisplayName("Collect a collection to immutable set")
+    class CollectToImmutableSet {
+
+        @Nested
+        @DisplayName("returns empty set")
+        class ReturnsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                Set<Object> result = collectToImmutableSet(null);
+                StreamAssertions.assertCollectionIsEmpty(result);
+                Assertions.assertFalse(result.contains(1));
+                Assertions.assertFalse(result.contains(null));
+                Assertions.assertThrows(NoSuchElementException.class, () -> result.iterator().next());
+            }
+
+            @Test
+            @DisplayName("for empty list")
+            void forEmptyList() {
+                StreamAssertions.assertCollectionIsEmpty(collectToImmutableSet(new ArrayList<>()));
+            }
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns a set of distinct values")
+        void returnsSetOfDistinctValues(int size) {
+            List<Organization> collection = mergeListsForEachSize(size, OrgUtils::getOrganization);
+            Set<Organization> result = collectToImmutableSet(collection);
+
+            Set<Organization> expected = getSet(size, OrgUtils::getOrganization);
+            assertEquals(expected, result);
+            assertEquals(result, expected);
+            assertEquals(expected.hashCode(), result.hashCode());
+        }
+
+        @Test
+        @DisplayName("returns a set that contains only the provided values")
+        void returnsSetThatContainsProvidedValues() {
+            List<Integer> collection = getIntegers(1000);
+            Set<Integer> result = collectToImmutableSet(collection);
+            for (int i = -1000; i <= 2000; i++) {
+                assertEquals(i >= 1 && i <= 1000, result.contains(i));
+            }
+        }
+
+        @Test
+        @DisplayName("returns a set with nullable value")
+        void returnsSetWithNullableValue() {
+            Set<Integer> result = collectToImmutableSet(Arrays.asList(1, null, 2, null, 1));
+            assertEquals(new HashSet<>(Arrays.asList(1, 2, null)), result);
+            Assertions.assertTrue(result.contains(null));
+
+            Iterator<Integer> iterator = result.iterator();
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertTrue(iterator.hasNext());
+                iterator.next();
+            }
+            Assertions.assertFalse(iterator.hasNext());
+            Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("returns an unmodifiable set")
+        void returnsUnmodifiableSet() {
+            Set<Integer> result = collectToImmutableSet(getIntegers(TEST_FIXED_SIZE));
+            assertThrows(UnsupportedOperationException.class, () -> result.add(0));
+            assertThrows(UnsupportedOperationException.class, () -> result.remove(1));
+            assertThrows(UnsupportedOperationException.class, result::clear);
+        }
+
+        @Test
+        @DisplayName("returns a serializable set")
+        void returnsSerializableSet() {
+            Set<Integer> result = collectToImmutableSet(Arrays.asList(1, 2, null));
+            Set<Integer> deserialized = serializeAndDeserialize(result);
+            assertEquals(result, deserialized);
+            Assertions.assertTrue(deserialized.contains(2));
+            Set<Integer> empty = collectToImmutableSet(null);
+            Assertions.assertSame(empty, serializeAndDeserialize(empty));
+        }
+
+        @Test
+        @DisplayName("returns a set that contains its items after serialization")
+        void returnsSetContainingItemsAfterSerialization() {
+            List<IdentityItem> items = mapObjects(50, i -> new IdentityItem());
+            Set<IdentityItem> deserialized = serializeAndDeserialize(collectToImmutableSet(items));
+            assertEquals(50, deserialized.size());
+            for (IdentityItem item : deserialized) {
+                Assertions.assertTrue(deserialized.contains(item));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter collection to immutable set")
+    class FilterToImmutableSet {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable predicate")
+        void forNullablePredicate() {
+            assertThrows(NullPointerException.class, () -> filterToImmutableSet(null, null));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of filtered objects for provided predicate")
+        void returnsSetOfFilteredObjects(int size) {
+            Collection<Organization> collection = getSet(size, OrgUtils::getOrganization);
+            Set<Organization> result = filterToImmutableSet(collection, PredicateUtils.ORG_WITH_EVEN_ID);
+
+            Set<Organization> expected = getSet(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(expected, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Map collection to immutable set")
+    class MapToImmutableSet {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable mapper")
+        void forNullableMapper() {
+            assertThrows(NullPointerException.class, () -> mapToImmutableSet(null, null));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the set of mapped objects for provided mapper")
+        void returnsSetOfMappedObjects(int size) {
+            List<Organization> list = getList(size, OrgUtils::getOrganization);
+            Set<Integer> result = mapToImmutableSet(list, Organization::getId);
+            assertEquals(getNaturalNumbersSet(size), result);
+        }
+
+        @Test
+        @DisplayName("returns the compact set for many duplicates")
+        void returnsCompactSetForManyDuplicates() {
+            List<Integer> list = getIntegers(1000);
+            Set<Integer> result = mapToImmutableSet(list, i -> i % 3);
+            assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Map collection to primitive set")
+    class MapToPrimitiveSet {
+
+        @Test
+        @DisplayName("throws null pointer exception for nullable mapper")
+        void forNullableMapper() {
+            assertThrows(NullPointerException.class, () -> mapToIntSet(null, null));
+            assertThrows(NullPointerException.class, () -> mapToLongSet(null, null));
+        }
+
+        @Test
+        @DisplayName("returns empty set for nullable collection")
+        void forNullableCollection() {
+            Assertions.assertTrue(mapToIntSet(null, Organization::getId).isEmpty());
+            Assertions.assertTrue(mapToLongSet(null, Organization::getId).isEmpty());
+            Assertions.assertTrue(distinctToIntSet(null).isEmpty());
+            Assertions.assertTrue(distinctToLongSet(null).isEmpty());
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the int set of mapped values")
+        void returnsIntSetOfMappedValues(int size) {
+            List<Organization> list = mergeListsForEachSize(size, OrgUtils::getOrganization);
+            IntSet result = mapToIntSet(list, Organization::getId);
+            assertEquals(IntSet.of(getNaturalNumbers(size).stream().mapToInt(Integer::intValue).toArray()), result);
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the long set of mapped values")
+        void returnsLongSetOfMappedValues(int size) {
+            Set<Organization> set = getSet(size, OrgUtils::getOrganization);
+            LongSet result = mapToLongSet(set, org -> org.getId() * 1_000_000_000L);
+            assertEquals(size, result.size());
+            Assertions.assertTrue(result.contains(size * 1_000_000_000L));
+        }
+
+        @Test
+        @DisplayName("returns the set of distinct boxed values")
+        void returnsSetOfDistinctBoxedValues() {
+            assertEquals(IntSet.of(1, 2, 3), distinctToIntSet(Arrays.asList(1, 2, 3, 2, 1)));
+            assertEquals(LongSet.of(1L, 2L, 3L), distinctToLongSet(new LinkedList<>(Arrays.asList(3L, 2L, 1L, 3L))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Set algebra of collections")
+    class SetAlgebraOfCollections {
+
+        private final Set<Integer> first = new HashSet<>(Arrays.asList(1, 2, 3, 4));
+
+        private final List<Integer> second = Arrays.asList(3, 4, 5, 3);
+
+        @Test
+        @DisplayName("returns empty set for nullable collections")
+        void forNullableCollections() {
+            StreamAssertions.assertCollectionIsEmpty(union(null, null));
+            StreamAssertions.assertCollectionIsEmpty(intersection(null, null));
+            StreamAssertions.assertCollectionIsEmpty(difference(null, null));
+            StreamAssertions.assertCollectionIsEmpty(symmetricDifference(null, null));
+        }
+
+        @Test
+        @DisplayName("treats nullable collection as empty")
+        void treatsNullableCollectionAsEmpty() {
+            assertEquals(first, union(first, null));
+            assertEquals(first, union(null, first));
+            StreamAssertions.assertCollectionIsEmpty(intersection(first, null));
+            StreamAssertions.assertCollectionIsEmpty(intersection(new ArrayList<>(), first));
+            assertEquals(first, difference(first, null));
+            StreamAssertions.assertCollectionIsEmpty(difference(null, first));
+            assertEquals(first, symmetricDifference(first, null));
+            assertEquals(first, symmetricDifference(null, first));
+        }
+
+        @Test
+        @DisplayName("returns union of collections")
+        void returnsUnion() {
+            assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4, 5)), union(first, second));
+            assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4, 5)), union(second, first));
+        }
+
+        @Test
+        @DisplayName("returns intersection of collections")
+        void returnsIntersection() {
+            Set<Integer> expected = new HashSet<>(Arrays.asList(3, 4));
+            assertEquals(expected, intersection(first, second));
+            assertEquals(expected, intersection(second, first));
+            assertEquals(expected, intersection(first, new HashSet<>(second)));
+            assertEquals(expected, intersection(new HashSet<>(second), first));
+            assertEquals(expected, intersection(new ArrayList<>(first), second));
+            assertEquals(expected, intersection(second, new LinkedList<>(first)));
+            assertEquals(expected, intersection(new HashSet<>(Arrays.asList(3, 4, 6)), new ArrayList<>(first)));
+        }
+
+        @Test
+        @DisplayName("returns difference of collections")
+        void returnsDifference() {
+            assertEquals(new HashSet<>(Arrays.asList(1, 2)), difference(first, second));
+            assertEquals(new HashSet<>(Arrays.asList(5)), difference(second, first));
+            assertEquals(new HashSet<>(Arrays.asList(5)), difference(second, new ArrayList<>(first)));
+        }
+
+        @Test
+        @DisplayName("returns symmetric difference of collections")
+        void returnsSymmetricDifference() {
+            Set<Integer> expected = new HashSet<>(Arrays.asList(1, 2, 5));
+            assertEquals(expected, symmetricDifference(first, second));
+            assertEquals(expected, symmetricDifference(second, first));
+        }
+
+        @ParameterizedTest(name = "for size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("returns the same result as filtering")
+        void returnsSameResultAsFiltering(int size) {
+            Set<Organization> all = getSet(size, OrgUtils::getOrganization);
+            List<Organization> even = getList(size, OrgUtils::getOrganization, PredicateUtils.INTEGER_IS_EVEN);
+            assertEquals(filterToSet(all, even::contains), intersection(all, even));
+            assertEquals(filterToSet(all, org -> !even.contains(org)), difference(all, even));
+        }
+    }
+
+    @Nested
+    @DisplayName("Set algebra views")
+    class SetAlgebraViews {
+
+        private final Set<Integer> first = new HashSet<>(Arrays.asList(1, 2, 3, 4));
+
+        private final Set<Integer> second = new HashSet<>(Arrays.asList(3, 4, 5));
+
+        @Test
+        @DisplayName("returns empty view for nullable sets")
+        void forNullableSets() {
+            StreamAssertions.assertCollectionIsEmpty(unionView(null, null));
+            StreamAssertions.assertCollectionIsEmpty(intersectionView(null, null));
+            StreamAssertions.assertCollectionIsEmpty(differenceView(null, null));
+            StreamAssertions.assertCollectionIsEmpty(symmetricDifferenceView(null, null));
+            Assertions.assertTrue(unionView(null, null).isEmpty());
+            Assertions.assertThrows(NoSuchElementException.class, () -> unionView(null, null).iterator().next());
+        }
+
+        @Test
+        @DisplayName("returns union view")
+        void returnsUnionView() {
+            Set<Integer> view = unionView(first, second);
+            assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4, 5)), view);
+            assertEquals(5, view.size());
+            Assertions.assertFalse(view.isEmpty());
+            Assertions.assertTrue(view.contains(1));
+            Assertions.assertTrue(view.contains(5));
+            Assertions.assertFalse(view.contains(6));
+        }
+
+        @Test
+        @DisplayName("returns intersection view")
+        void returnsIntersectionView() {
+            Set<Integer> view = intersectionView(first, second);
+            assertEquals(new HashSet<>(Arrays.asList(3, 4)), view);
+            assertEquals(new HashSet<>(Arrays.asList(3, 4)), intersectionView(second, first));
+            Assertions.assertTrue(view.contains(3));
+            Assertions.assertFalse(view.contains(1));
+            Assertions.assertFalse(view.contains(5));
+        }
+
+        @Test
+        @DisplayName("returns difference view")
+        void returnsDifferenceView() {
+            Set<Integer> view = differenceView(first, second);
+            assertEquals(new HashSet<>(Arrays.asList(1, 2)), view);
+            Assertions.assertTrue(view.contains(1));
+            Assertions.assertFalse(view.contains(3));
+            Assertions.assertFalse(view.contains(5));
+        }
+
+        @Test
+        @DisplayName("returns symmetric difference view")
+        void returnsSymmetricDifferenceView() {
+            Set<Integer> view = symmetricDifferenceView(first, second);
+            assertEquals(new HashSet<>(Arrays.asList(1, 2, 5)), view);
+            Assertions.assertTrue(view.contains(1));
+            Assertions.assertTrue(view.contains(5));
+            Assertions.assertFalse(view.contains(3));
+        }
+
+        @Test
+        @DisplayName("reflects changes of the input sets")
+        void reflectsChangesOfInputSets() {
+            Set<Integer> view = intersectionView(first, second);
+            second.add(1);
+            first.remove(4);
+            assertEquals(new HashSet<>(Arrays.asList(1, 3)), view);
+        }
+
+        @Test
+        @DisplayName("throws unsupported operation exception for modification")
+        void throwsExceptionForModification() {
+            Set<Integer> view = unionView(first, second);
+            assertThrows(UnsupportedOperationException.class, () -> view.add(6));
+            assertThrows(UnsupportedOperationException.class, () -> view.remove(1));
+            assertThrows(UnsupportedOperationException.class, view::clear);
+        }
+    }
+
+    /**
+     * The item with the identity hash code, which differs after deserialization.
+     */
+    private static final class IdentityItem implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -10,11 +10,15 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
-import static io.github.avegera.stream.utils.Streams.safeStream;
+import static io.github.avegera.stream.utils.Streams.*;
 import static io.github.avegera.stream.utils.test.StreamAssertions.assertEmptyStream;
 import static io.github.avegera.stream.utils.test.TestUtils.getCollection;
+import static io.github.avegera.stream.utils.test.TestUtils.getNaturalNumbers;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class StreamsTest {
 
@@ -49,4 +53,94 @@ class StreamsTest {
             StreamAssertions.assertIterableEquals(collection, safeStream(collection));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Safe int stream")
+    class SafeIntStream {
+
+        @Nested
+        @DisplayName("is empty")
+        class IsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                assertEquals(0, safeIntStream(null, Integer::intValue).count());
+            }
+
+            @Test
+            @DisplayName("for empty collection")
+            void forEmptyCollection() {
+                assertEquals(0, safeIntStream(new ArrayList<>(), Integer::intValue).count());
+            }
+        }
+
+        @ParameterizedTest(name = "size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("contains mapped values of collection")
+        void containsMappedValuesOfCollection(int collectionSize) {
+            List<Integer> list = getNaturalNumbers(collectionSize);
+            assertArrayEquals(list.stream().mapToInt(Integer::intValue).toArray(), safeIntStream(list, Integer::intValue).toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("Safe long stream")
+    class SafeLongStream {
+
+        @Nested
+        @DisplayName("is empty")
+        class IsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                assertEquals(0, safeLongStream(null, Integer::longValue).count());
+            }
+
+            @Test
+            @DisplayName("for empty collection")
+            void forEmptyCollection() {
+                assertEquals(0, safeLongStream(new ArrayList<>(), Integer::longValue).count());
+            }
+        }
+
+        @ParameterizedTest(name = "size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("contains mapped values of collection")
+        void containsMappedValuesOfCollection(int collectionSize) {
+            List<Integer> list = getNaturalNumbers(collectionSize);
+            assertArrayEquals(list.stream().mapToLong(Integer::longValue).toArray(), safeLongStream(list, Integer::longValue).toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("Safe double stream")
+    class SafeDoubleStream {
+
+        @Nested
+        @DisplayName("is empty")
+        class IsEmpty {
+
+            @Test
+            @DisplayName("for nullable collection")
+            void forNullableCollection() {
+                assertEquals(0, safeDoubleStream(null, Integer::doubleValue).count());
+            }
+
+            @Test
+            @DisplayName("for empty collection")
+            void forEmptyCollection() {
+                assertEquals(0, safeDoubleStream(new ArrayList<>(), Integer::doubleValue).count());
+            }
+        }
+
+        @ParameterizedTest(name = "size = {0}")
+        @ArgumentsSource(CollectionSizeProvider.class)
+        @DisplayName("contains mapped values of collection")
+        void containsMappedValuesOfCollection(int collectionSize) {
+            List<Integer> list = getNaturalNumbers(collectionSize);
+            assertArrayEquals(list.stream().mapToDouble(Integer::doubleValue).toArray(), safeDoubleStream(list, Integer::doubleValue).toArray());
+        }
+    }
+}
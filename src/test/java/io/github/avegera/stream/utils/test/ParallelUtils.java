@@ -0,0 +1,21 @@
+package io.github.avegera.stream.utils.test;
+
+import io.github.avegera.stream.utils.ParallelOptions;
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+@UtilityClass
+public class ParallelUtils {
+
+    public static final ForkJoinPool TEST_POOL = new ForkJoinPool(4);
+
+    public static final ParallelOptions ALWAYS_PARALLEL = ParallelOptions.of(0, TEST_POOL);
+
+    public static final ParallelOptions NEVER_PARALLEL = ParallelOptions.of(Integer.MAX_VALUE, TEST_POOL);
+
+    public static boolean isTestPoolThread(Thread thread) {
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == TEST_POOL;
+    }
+}
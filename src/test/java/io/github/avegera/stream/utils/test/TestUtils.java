@@ -2,6 +2,7 @@ package io.github.avegera.stream.utils.test;
 
 import io.github.avegera.stream.utils.test.domain.User;
 
+import java.io.*;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -40,6 +41,12 @@ public class TestUtils {
                 .collect(toList());
     }
 
+    public static <T> List<T> getShuffledList(int size, Function<Integer, T> constructor) {
+        List<T> list = getList(size, constructor);
+        Collections.shuffle(list, new Random(size));
+        return list;
+    }
+
     public static <T> Set<T> getSet(int size, Function<Integer, T> constructor, Predicate<Integer> predicate) {
         return getStream(size, constructor, predicate).collect(toSet());
     }
@@ -109,4 +116,19 @@ public class TestUtils {
     public static List<User> getUsers(int endInclusive) {
         return rangeClosed(1, endInclusive).boxed().map(it -> new User(it, null)).collect(toList());
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    public static <T> T serializeAndDeserialize(T object) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(object);
+            }
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (T) input.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}